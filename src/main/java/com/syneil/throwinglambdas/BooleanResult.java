@@ -0,0 +1,119 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * The outcome of a throwing {@code boolean}-valued operation: either the value it produced or the exception it threw.
+ * This is the {@code boolean}-producing primitive specialization of {@link Result}, returned by the
+ * {@code attempt(lambda)} methods of the {@code boolean}-producing throwing interfaces.
+ * <p>
+ * Successful outcomes are shared constants, so they are never allocated.
+ */
+public final class BooleanResult {
+    private static final BooleanResult TRUE = new BooleanResult(true, null);
+    private static final BooleanResult FALSE = new BooleanResult(false, null);
+
+    private final boolean value;
+    private final Exception exception;
+
+    private BooleanResult(final boolean value, final Exception exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns a successful outcome.
+     *
+     * @param value the value produced
+     * @return a successful outcome with the given value
+     */
+    public static BooleanResult success(final boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * Returns a failed outcome.
+     *
+     * @param exception the exception thrown
+     * @return a failed outcome with the given exception
+     * @throws NullPointerException if exception is null
+     */
+    public static BooleanResult failure(final Exception exception) {
+        return new BooleanResult(false, Objects.requireNonNull(exception));
+    }
+
+    /**
+     * @return true if the operation produced a value
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * @return true if the operation threw an exception
+     */
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    /**
+     * Returns the value produced, or throws the exception the operation threw. An unchecked exception is rethrown
+     * unchanged; a checked exception is thrown as the cause of a runtime {@link LambdaException}.
+     *
+     * @return the value produced
+     * @throws RuntimeException the exception itself, if the operation threw an unchecked exception
+     * @throws LambdaException  with the exception as its cause, if the operation threw a checked exception
+     */
+    public boolean getAsBoolean() {
+        if (exception != null) {
+            throw LambdaException.wrap(exception);
+        }
+        return value;
+    }
+
+    /**
+     * @return the exception thrown, or null if the operation produced a value
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    /**
+     * @param other the value to return on failure
+     * @return the value produced, or other if the operation threw an exception
+     */
+    public boolean orElse(final boolean other) {
+        return exception == null ? value : other;
+    }
+
+    /**
+     * @param fallback the function from the exception thrown to the value to return on failure
+     * @return the value produced, or the result of applying fallback to the exception thrown
+     */
+    public boolean orElseGet(final Predicate<? super Exception> fallback) {
+        return exception == null ? value : fallback.test(exception);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BooleanResult)) {
+            return false;
+        }
+        final BooleanResult other = (BooleanResult) obj;
+        return value == other.value && Objects.equals(exception, other.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Boolean.hashCode(value) + Objects.hashCode(exception);
+    }
+
+    @Override
+    public String toString() {
+        return exception == null ? "BooleanResult.success[" + value + "]" : "BooleanResult.failure[" + exception + "]";
+    }
+}
@@ -0,0 +1,411 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.concurrent.locks.*;
+
+/**
+ * The bounded cache behind the {@code memoize(lambda, spec)} methods.
+ * <p>
+ * The cache is divided into segments chosen by the high bits of the key's hash. Each segment is an open-addressing
+ * table with linear probing, at most half full, guarded by a {@link StampedLock}. A lookup probes the table under an
+ * optimistic read and retries under the read lock only if a write intervened, so a hit takes no lock and allocates
+ * nothing. Entries are immutable apart from the flag that a hit sets; writing a key replaces its entry. Keys of the
+ * primitive specializations are held as {@code long}s, and primitive results as the bits of a {@code long}, so they
+ * are never boxed. The two arguments of a two-argument function are held and compared separately, so no pair is
+ * allocated to look them up.
+ * <p>
+ * When a segment is full, its CLOCK hand sweeps the table, clearing the flag of each recently used entry and evicting
+ * the first entry whose flag is already clear or which has expired. Removal shifts later entries of the probe sequence
+ * back, so no tombstones are left behind.
+ * <p>
+ * The lambda is invoked by the caller outside any lock, so concurrent misses on the same key may each invoke it; the
+ * last result written wins.
+ */
+final class BoundedCache {
+    private static final int MIN_SEGMENT_SIZE = 16;
+    private static final int INITIAL_TABLE_LENGTH = 16;
+    // The largest capacity whose table, kept at most half full, has a power-of-two length that fits in an int
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 29;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final long expireAfterWriteNanos;
+    private final boolean cacheFailures;
+    private final CacheStats stats;
+
+    BoundedCache(final CacheSpec spec) {
+        final int maximumSize = spec.getMaximumSize();
+        final int concurrency = Runtime.getRuntime().availableProcessors() * 2;
+        final int count = Integer.highestOneBit(Math.max(1, Math.min(concurrency, maximumSize / MIN_SEGMENT_SIZE)));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumSize / count);
+        }
+        segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        expireAfterWriteNanos = spec.expireAfterWriteNanos();
+        cacheFailures = spec.isCacheFailures();
+        stats = spec.getStats();
+    }
+
+    static int hash(final Object key) {
+        return spread(Objects.hashCode(key));
+    }
+
+    static int hash(final long key) {
+        return spread(Long.hashCode(key));
+    }
+
+    static int hash(final Object first, final Object second) {
+        return spread(31 * Objects.hashCode(first) + Objects.hashCode(second));
+    }
+
+    /**
+     * Returns the live entry for the key, or null on a miss.
+     */
+    Entry find(final Object key, final int hash) {
+        final Segment segment = segmentFor(hash);
+        long stamp = segment.tryOptimisticRead();
+        Entry entry = segment.find(key, hash);
+        if (!segment.validate(stamp)) {
+            stamp = segment.readLock();
+            try {
+                entry = segment.find(key, hash);
+            } finally {
+                segment.unlockRead(stamp);
+            }
+        }
+        return live(entry);
+    }
+
+    /**
+     * Returns the live entry for the key, or null on a miss.
+     */
+    Entry find(final long key, final int hash) {
+        final Segment segment = segmentFor(hash);
+        long stamp = segment.tryOptimisticRead();
+        Entry entry = segment.find(key, hash);
+        if (!segment.validate(stamp)) {
+            stamp = segment.readLock();
+            try {
+                entry = segment.find(key, hash);
+            } finally {
+                segment.unlockRead(stamp);
+            }
+        }
+        return live(entry);
+    }
+
+    /**
+     * Returns the live entry for the pair of keys, or null on a miss.
+     */
+    Entry find(final Object first, final Object second, final int hash) {
+        final Segment segment = segmentFor(hash);
+        long stamp = segment.tryOptimisticRead();
+        Entry entry = segment.find(first, second, hash);
+        if (!segment.validate(stamp)) {
+            stamp = segment.readLock();
+            try {
+                entry = segment.find(first, second, hash);
+            } finally {
+                segment.unlockRead(stamp);
+            }
+        }
+        return live(entry);
+    }
+
+    void put(final Object key, final int hash, final Object value, final long bits) {
+        segmentFor(hash).put(new ObjectEntry(key, hash, value, bits, null, now()));
+    }
+
+    void putFailure(final Object key, final int hash, final Exception failure) {
+        if (cacheFailures) {
+            segmentFor(hash).put(new ObjectEntry(key, hash, null, 0L, failure, now()));
+        }
+    }
+
+    void put(final long key, final int hash, final Object value, final long bits) {
+        segmentFor(hash).put(new LongEntry(key, hash, value, bits, null, now()));
+    }
+
+    void putFailure(final long key, final int hash, final Exception failure) {
+        if (cacheFailures) {
+            segmentFor(hash).put(new LongEntry(key, hash, null, 0L, failure, now()));
+        }
+    }
+
+    void put(final Object first, final Object second, final int hash, final Object value, final long bits) {
+        segmentFor(hash).put(new PairEntry(first, second, hash, value, bits, null, now()));
+    }
+
+    void putFailure(final Object first, final Object second, final int hash, final Exception failure) {
+        if (cacheFailures) {
+            segmentFor(hash).put(new PairEntry(first, second, hash, null, 0L, failure, now()));
+        }
+    }
+
+    private Entry live(final Entry entry) {
+        if (entry == null || isExpired(entry, now())) {
+            if (stats != null) {
+                stats.recordMiss();
+            }
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        if (stats != null) {
+            stats.recordHit();
+        }
+        return entry;
+    }
+
+    private boolean isExpired(final Entry entry, final long now) {
+        return expireAfterWriteNanos != 0L && now - entry.writeTime >= expireAfterWriteNanos;
+    }
+
+    private long now() {
+        return expireAfterWriteNanos == 0L ? 0L : System.nanoTime();
+    }
+
+    private Segment segmentFor(final int hash) {
+        return segments[segmentShift == 32 ? 0 : hash >>> segmentShift];
+    }
+
+    private static int spread(final int h) {
+        final int mixed = h * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * A cached outcome: either a result, held as an object or as the bits of a primitive, or a failure.
+     */
+    abstract static class Entry {
+        final int hash;
+        final Object value;
+        final long bits;
+        final Exception failure;
+        final long writeTime;
+        boolean referenced;
+
+        Entry(final int hash, final Object value, final long bits, final Exception failure, final long writeTime) {
+            this.hash = hash;
+            this.value = value;
+            this.bits = bits;
+            this.failure = failure;
+            this.writeTime = writeTime;
+        }
+
+        abstract boolean sameKey(Entry other);
+    }
+
+    private static final class ObjectEntry extends Entry {
+        final Object key;
+
+        ObjectEntry(final Object key, final int hash, final Object value, final long bits, final Exception failure,
+                final long writeTime) {
+            super(hash, value, bits, failure, writeTime);
+            this.key = key;
+        }
+
+        @Override
+        boolean sameKey(final Entry other) {
+            return Objects.equals(key, ((ObjectEntry) other).key);
+        }
+    }
+
+    private static final class LongEntry extends Entry {
+        final long key;
+
+        LongEntry(final long key, final int hash, final Object value, final long bits, final Exception failure,
+                final long writeTime) {
+            super(hash, value, bits, failure, writeTime);
+            this.key = key;
+        }
+
+        @Override
+        boolean sameKey(final Entry other) {
+            return key == ((LongEntry) other).key;
+        }
+    }
+
+    private static final class PairEntry extends Entry {
+        final Object first;
+        final Object second;
+
+        PairEntry(final Object first, final Object second, final int hash, final Object value, final long bits,
+                final Exception failure, final long writeTime) {
+            super(hash, value, bits, failure, writeTime);
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        boolean sameKey(final Entry other) {
+            final PairEntry pair = (PairEntry) other;
+            return Objects.equals(first, pair.first) && Objects.equals(second, pair.second);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class Segment extends StampedLock {
+        private final int capacity;
+        private final int maximumLength;
+        private Entry[] table;
+        private int size;
+        private int hand;
+
+        Segment(final int capacity) {
+            this.capacity = Math.max(1, Math.min(capacity, MAXIMUM_SEGMENT_CAPACITY));
+            maximumLength = Integer.highestOneBit(this.capacity * 2 - 1) * 2;
+            table = new Entry[Math.min(INITIAL_TABLE_LENGTH, maximumLength)];
+        }
+
+        /**
+         * Probes for the key. May be called under an optimistic read, so tolerates a table being modified.
+         */
+        Entry find(final Object key, final int hash) {
+            final Entry[] tab = table;
+            final int mask = tab.length - 1;
+            for (int i = hash & mask, n = 0; n < tab.length; i = (i + 1) & mask, n++) {
+                final Entry entry = tab[i];
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.hash == hash && Objects.equals(key, ((ObjectEntry) entry).key)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Probes for the key. May be called under an optimistic read, so tolerates a table being modified.
+         */
+        Entry find(final long key, final int hash) {
+            final Entry[] tab = table;
+            final int mask = tab.length - 1;
+            for (int i = hash & mask, n = 0; n < tab.length; i = (i + 1) & mask, n++) {
+                final Entry entry = tab[i];
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.hash == hash && key == ((LongEntry) entry).key) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Probes for the pair of keys. May be called under an optimistic read, so tolerates a table being modified.
+         */
+        Entry find(final Object first, final Object second, final int hash) {
+            final Entry[] tab = table;
+            final int mask = tab.length - 1;
+            for (int i = hash & mask, n = 0; n < tab.length; i = (i + 1) & mask, n++) {
+                final Entry entry = tab[i];
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.hash == hash && Objects.equals(first, ((PairEntry) entry).first)
+                        && Objects.equals(second, ((PairEntry) entry).second)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        void put(final Entry entry) {
+            final long stamp = writeLock();
+            try {
+                Entry[] tab = table;
+                int mask = tab.length - 1;
+                int i = entry.hash & mask;
+                for (Entry existing; (existing = tab[i]) != null; i = (i + 1) & mask) {
+                    if (existing.hash == entry.hash && existing.sameKey(entry)) {
+                        tab[i] = entry;
+                        return;
+                    }
+                }
+                if (size >= capacity) {
+                    evict(entry.writeTime);
+                } else if (size + 1 > tab.length / 2) {
+                    resize();
+                }
+                tab = table;
+                mask = tab.length - 1;
+                i = entry.hash & mask;
+                while (tab[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                tab[i] = entry;
+                size++;
+            } finally {
+                unlockWrite(stamp);
+            }
+        }
+
+        private void evict(final long now) {
+            final Entry[] tab = table;
+            final int mask = tab.length - 1;
+            while (true) {
+                final Entry entry = tab[hand];
+                if (entry != null) {
+                    if (entry.referenced && !isExpired(entry, now)) {
+                        entry.referenced = false;
+                    } else {
+                        remove(tab, hand);
+                        if (stats != null) {
+                            stats.recordEviction();
+                        }
+                        return;
+                    }
+                }
+                hand = (hand + 1) & mask;
+            }
+        }
+
+        /**
+         * Removes the entry at slot i, shifting back each later entry of the probe sequence that may no longer be
+         * reachable from its home slot.
+         */
+        private void remove(final Entry[] tab, final int slot) {
+            final int mask = tab.length - 1;
+            int i = slot;
+            int j = slot;
+            while (true) {
+                j = (j + 1) & mask;
+                final Entry entry = tab[j];
+                if (entry == null) {
+                    break;
+                }
+                final int home = entry.hash & mask;
+                if (i <= j ? home <= i || home > j : home <= i && home > j) {
+                    tab[i] = entry;
+                    i = j;
+                }
+            }
+            tab[i] = null;
+            size--;
+        }
+
+        private void resize() {
+            if (table.length >= maximumLength) {
+                return;
+            }
+            final Entry[] tab = new Entry[table.length * 2];
+            final int mask = tab.length - 1;
+            for (final Entry entry : table) {
+                if (entry != null) {
+                    int i = entry.hash & mask;
+                    while (tab[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    tab[i] = entry;
+                }
+            }
+            table = tab;
+            hand = 0;
+        }
+    }
+}
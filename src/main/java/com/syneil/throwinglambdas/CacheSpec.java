@@ -0,0 +1,129 @@
+package com.syneil.throwinglambdas;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * The configuration of the bounded cache created by a {@code memoize(lambda, spec)} method. Instances are immutable;
+ * each method other than {@link #maximumSize} returns a copy with one setting changed:
+ * <pre>{@code
+ * final CacheStats stats = new CacheStats();
+ * final ThrowingFunction<String, Account, IOException> lookup = ThrowingFunction.memoize(client::fetch,
+ *         CacheSpec.maximumSize(10_000).expireAfterWrite(Duration.ofMinutes(5)).recordStats(stats));
+ * }</pre>
+ * When the cache is full, an entry is evicted by the CLOCK policy, an approximation of least-recently-used eviction in
+ * which a hit only sets a flag on the entry. The bound is enforced separately in each of the cache's segments, so a
+ * cache with unevenly distributed keys may evict before it holds maximumSize entries. Each segment holds at most
+ * 2<sup>29</sup> entries, however large maximumSize is.
+ */
+public final class CacheSpec {
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final boolean cacheFailures;
+    private final CacheStats stats;
+
+    private CacheSpec(final int maximumSize, final long expireAfterWriteNanos, final boolean cacheFailures,
+            final CacheStats stats) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.cacheFailures = cacheFailures;
+        this.stats = stats;
+    }
+
+    /**
+     * Returns a specification of a cache that holds at most the given number of entries, which never expire. Failures
+     * are not cached and statistics are not recorded.
+     *
+     * @param maximumSize the maximum number of entries held
+     * @return a cache specification
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public static CacheSpec maximumSize(final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        return new CacheSpec(maximumSize, 0L, false, null);
+    }
+
+    /**
+     * Returns a copy of this specification in which each entry expires once the given duration has passed since it
+     * was written. An expired entry is treated as absent, so the next lookup of its key invokes the lambda again.
+     *
+     * @param duration the time for which each entry remains valid
+     * @return a cache specification
+     * @throws IllegalArgumentException if duration is zero or negative
+     * @throws NullPointerException if duration is null
+     */
+    public CacheSpec expireAfterWrite(final Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("duration must be positive: " + duration);
+        }
+        long nanos;
+        try {
+            nanos = duration.toNanos();
+        } catch (final ArithmeticException ex) {
+            nanos = Long.MAX_VALUE;
+        }
+        return new CacheSpec(maximumSize, nanos, cacheFailures, stats);
+    }
+
+    /**
+     * Returns a copy of this specification that caches exceptions as well as results. A cached exception is rethrown
+     * unchanged to every lookup of its key until it is evicted or expires.
+     *
+     * @param cacheFailures whether an exception thrown by the lambda is cached in place of a result
+     * @return a cache specification
+     */
+    public CacheSpec cacheFailures(final boolean cacheFailures) {
+        return new CacheSpec(maximumSize, expireAfterWriteNanos, cacheFailures, stats);
+    }
+
+    /**
+     * Returns a copy of this specification that records hits, misses and evictions in the given counters.
+     *
+     * @param stats the counters to update
+     * @return a cache specification
+     * @throws NullPointerException if stats is null
+     */
+    public CacheSpec recordStats(final CacheStats stats) {
+        return new CacheSpec(maximumSize, expireAfterWriteNanos, cacheFailures, Objects.requireNonNull(stats));
+    }
+
+    /**
+     * @return the maximum number of entries held
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the time for which each entry remains valid, or null if entries do not expire
+     */
+    public Duration getExpireAfterWrite() {
+        return expireAfterWriteNanos == 0L ? null : Duration.ofNanos(expireAfterWriteNanos);
+    }
+
+    /**
+     * @return true if exceptions are cached as well as results
+     */
+    public boolean isCacheFailures() {
+        return cacheFailures;
+    }
+
+    /**
+     * @return the counters updated by the cache, or null if statistics are not recorded
+     */
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    long expireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheSpec[maximumSize=" + maximumSize + ", expireAfterWrite=" + getExpireAfterWrite()
+                + ", cacheFailures=" + cacheFailures + ", recordStats=" + (stats != null) + "]";
+    }
+}
@@ -0,0 +1,64 @@
+package com.syneil.throwinglambdas;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Counters of the lookups made in the caches of the {@code memoize(lambda, spec)} methods. An instance is attached to a
+ * cache with {@link CacheSpec#recordStats}; the same instance may be shared by several caches to record their totals.
+ * <p>
+ * The counters are updated without locking and read as a sum, so a snapshot taken while lookups are in progress may
+ * be slightly out of date.
+ */
+public final class CacheStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @return the number of lookups that found a cached result or exception
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that found nothing cached, or only an expired entry, and so invoked the lambda
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries removed to make room for new entries, including expired entries reclaimed
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the proportion of lookups that were hits, or 1.0 if there have been no lookups
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats[hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions="
+                + getEvictionCount() + "]";
+    }
+}
@@ -0,0 +1,92 @@
+package com.syneil.throwinglambdas;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A flag shared by the operations of a parallel stream, so that they stop as soon as any of them fails.
+ * <p>
+ * The operations returned by the {@code protect(lambda, token)} methods check the token before invoking their lambda.
+ * The first exception thrown by any of them cancels the token and is thrown as by {@code protect(lambda)}; from then
+ * on, every operation sharing the token skips its element by throwing a {@link LambdaException} that the token creates
+ * once, with the first failure as its cause, no stack trace and suppression disabled, so that skipping an element
+ * neither invokes the lambda nor creates an exception. The other workers of the stream therefore stop within one
+ * element each, and whichever exception the stream propagates has the first failure as itself or its cause:
+ * <pre>{@code
+ * final CancellationToken token = new CancellationToken();
+ * final List<Record> records = lines.parallelStream()
+ *         .map(ThrowingFunction.protect(Parser::parse, token))
+ *         .collect(Collectors.toList());
+ * }</pre>
+ * A token may also be cancelled by the caller. It cannot be reset, so a new token is needed for each stream.
+ * <p>
+ * A {@link FailureCollector} skips elements through a token of its own, and in addition records every failure.
+ *
+ * @see FailureCollector
+ */
+public final class CancellationToken {
+    private final AtomicReference<Cancellation> cancellation = new AtomicReference<>();
+
+    /**
+     * @return true if the token has been cancelled, by a failure or by {@link #cancel}
+     */
+    public boolean isCancelled() {
+        return cancellation.get() != null;
+    }
+
+    /**
+     * Cancels the token with a {@link CancellationException}, if it is not already cancelled, so that operations
+     * sharing it skip their elements.
+     */
+    public void cancel() {
+        if (cancellation.get() == null) {
+            cancellation.compareAndSet(null, new Cancellation(new CancellationException("Cancelled by caller")));
+        }
+    }
+
+    /**
+     * @return the first failure, as thrown by {@code protect(lambda)}, or the {@link CancellationException} if the
+     *         token was cancelled by {@link #cancel}, or null if the token has not been cancelled
+     */
+    public RuntimeException getFailure() {
+        final Cancellation cancelled = cancellation.get();
+        return cancelled == null ? null : cancelled.failure;
+    }
+
+    /**
+     * @throws LambdaException the exception shared by skipped elements, if the token has been cancelled
+     */
+    void throwIfCancelled() {
+        final Cancellation cancelled = cancellation.get();
+        if (cancelled != null) {
+            throw cancelled.skipped;
+        }
+    }
+
+    /**
+     * Cancels the token with the given exception, if it is not already cancelled.
+     *
+     * @return the runtime exception to throw in place of exception
+     */
+    RuntimeException fail(final Exception exception) {
+        final RuntimeException wrapped = LambdaException.wrap(exception);
+        if (cancellation.get() == null) {
+            cancellation.compareAndSet(null, new Cancellation(wrapped));
+        }
+        return wrapped;
+    }
+
+    /**
+     * The first failure, and the exception thrown in its place by every skipped element. The latter is shared between
+     * threads, so it is created without a stack trace and with suppression disabled.
+     */
+    private static final class Cancellation {
+        private final RuntimeException failure;
+        private final LambdaException skipped;
+
+        Cancellation(final RuntimeException failure) {
+            this.failure = failure;
+            this.skipped = new LambdaException(failure, false, false);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A sink for the exceptions passed to the failure handler of a {@code protect(lambda, handler)} method, such as a
+ * dead-letter collector.
+ * <p>
+ * Exceptions are recorded in one of several stripes. Each reporting thread is assigned a stripe in turn when it first
+ * uses the collector, so as many threads as there are stripes each have one of their own, and the threads of a
+ * parallel stream do not contend with one another when they report failures concurrently. At most {@code capacity}
+ * exceptions are retained; any more are counted and dropped. Only a bounded collector counts the exceptions it retains,
+ * in a counter shared by all threads.
+ * <p>
+ * A collector may also act as the failure scope of a parallel stream. The operations returned by
+ * {@link #protectFunction}, {@link #protectPredicate} and {@link #protectConsumer} report their failures here and, once
+ * any of them has failed, skip the remaining elements through the collector's {@link CancellationToken}. Exceptions
+ * passed to {@link #accept}, as by a failure handler, are only recorded and skip nothing. {@link #evaluate} then
+ * waits for operations already in progress and rethrows every failure together. Each thread counts its own operations
+ * in progress, without atomic updates, and the waiting thread is parked until the last of them finishes:
+ * <pre>{@code
+ * final FailureCollector failures = new FailureCollector(Runtime.getRuntime().availableProcessors(), 100);
+ * final List<Record> records = failures.evaluate(() -> lines.parallelStream()
+ *         .map(failures.protectFunction(Parser::parse))
+ *         .collect(Collectors.toList()));
+ * }</pre>
+ */
+public final class FailureCollector implements Consumer<Exception> {
+    // Bounds the wait of a thread whose unpark was taken by another thread waiting at the same time
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    private final Stripe[] stripes;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(this::register);
+    private final List<Worker> registered = new CopyOnWriteArrayList<>();
+    private final AtomicInteger assignments = new AtomicInteger();
+    private final int capacity;
+    private final AtomicInteger retained = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicReference<Exception> firstFailure = new AtomicReference<>();
+    private volatile CancellationToken token = new CancellationToken();
+
+    /**
+     * Constructor with one stripe per available processor (rounded up to a power of two) and no bound on the number
+     * of exceptions retained.
+     */
+    public FailureCollector() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor with the given number of stripes (rounded up to a power of two) and no bound on the number of
+     * exceptions retained.
+     * @param concurrency the expected number of threads reporting failures concurrently
+     * @throws IllegalArgumentException if concurrency is not positive
+     */
+    public FailureCollector(final int concurrency) {
+        this(concurrency, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor with the given number of stripes (rounded up to a power of two) and bound on the number of exceptions
+     * retained.
+     * @param concurrency the expected number of threads reporting failures concurrently
+     * @param capacity    the maximum number of exceptions retained
+     * @throws IllegalArgumentException if concurrency or capacity is not positive
+     */
+    public FailureCollector(final int concurrency, final int capacity) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        stripes = new Stripe[Integer.highestOneBit(Math.min(concurrency, 1 << 16) * 2 - 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Records the exception, or counts it as dropped if capacity exceptions are already retained. The operations
+     * protected by this collector do not skip elements because of it.
+     * @param exception the exception thrown by a protected operation
+     * @throws NullPointerException if exception is null
+     */
+    @Override
+    public void accept(final Exception exception) {
+        record(Objects.requireNonNull(exception));
+    }
+
+    /**
+     * @return true if any exception has been recorded since the collector was created or last drained
+     */
+    public boolean hasFailures() {
+        return firstFailure.get() != null;
+    }
+
+    /**
+     * @return the number of exceptions dropped because capacity exceptions were already retained
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return a snapshot of the exceptions recorded so far, grouped by reporting thread
+     */
+    public List<Exception> getFailures() {
+        final List<Exception> failures = new ArrayList<>();
+        for (final Stripe stripe : stripes) {
+            stripe.copyTo(failures);
+        }
+        return failures;
+    }
+
+    /**
+     * Removes and returns the exceptions recorded so far, grouped by reporting thread. Capacity is released for as many
+     * exceptions as are returned, and the collector no longer counts as failed, so its protected operations stop
+     * skipping elements. An exception reported while the collector is being drained is either returned or left
+     * recorded, in which case the collector counts as failed again.
+     * @return the exceptions recorded since the last call to this method
+     */
+    public List<Exception> drain() {
+        firstFailure.set(null);
+        token = new CancellationToken();
+        final List<Exception> failures = new ArrayList<>();
+        for (final Stripe stripe : stripes) {
+            stripe.drainTo(failures);
+        }
+        if (capacity != Integer.MAX_VALUE) {
+            retained.addAndGet(-failures.size());
+        }
+        return failures;
+    }
+
+    /**
+     * Returns a safe version of lambda that reports any exception it throws to this collector. Once any of the
+     * operations it protects has failed, the returned function skips further elements rather than invoking lambda, by
+     * throwing a {@link LambdaException} shared by the collector, as with {@link CancellationToken}.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the input to the function
+     * @param <R>    the type of the result of the function
+     * @return a safe function that accepts one argument and produces a result
+     * @see #evaluate
+     */
+    public <T, R> Function<T, R> protectFunction(
+            final ThrowingFunction<? super T, ? extends R, ? extends Exception> lambda) {
+        Objects.requireNonNull(lambda);
+        return t -> {
+            final CancellationToken scope = token;
+            final Worker worker = enter(scope);
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                record(ex);
+                throw scope.fail(ex);
+            } finally {
+                worker.exit();
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that reports any exception it throws to this collector. Once any of the
+     * operations it protects has failed, the returned predicate skips further elements rather than invoking lambda, by
+     * throwing a {@link LambdaException} shared by the collector, as with {@link CancellationToken}.
+     *
+     * @param lambda the unsafe predicate
+     * @param <T>    the type of the input to the predicate
+     * @return a safe predicate of one argument
+     * @see #evaluate
+     */
+    public <T> Predicate<T> protectPredicate(final ThrowingPredicate<? super T, ? extends Exception> lambda) {
+        Objects.requireNonNull(lambda);
+        return t -> {
+            final CancellationToken scope = token;
+            final Worker worker = enter(scope);
+            try {
+                return lambda.test(t);
+            } catch (final Exception ex) {
+                record(ex);
+                throw scope.fail(ex);
+            } finally {
+                worker.exit();
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that reports any exception it throws to this collector. Once any of the
+     * operations it protects has failed, the returned operation skips further elements rather than invoking lambda, by
+     * throwing a {@link LambdaException} shared by the collector, as with {@link CancellationToken}.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the input to the operation
+     * @return a safe operation that accepts one argument and returns no result
+     * @see #evaluate
+     */
+    public <T> Consumer<T> protectConsumer(final ThrowingConsumer<? super T, ? extends Exception> lambda) {
+        Objects.requireNonNull(lambda);
+        return t -> {
+            final CancellationToken scope = token;
+            final Worker worker = enter(scope);
+            try {
+                lambda.accept(t);
+            } catch (final Exception ex) {
+                record(ex);
+                throw scope.fail(ex);
+            } finally {
+                worker.exit();
+            }
+        };
+    }
+
+    /**
+     * Performs a terminal operation over operations protected by this collector. If any failure is reported, waits for
+     * the protected operations still in progress to finish and then throws all reported failures together.
+     *
+     * @param terminalOperation the terminal operation, such as the collection of a parallel stream
+     * @param <T>               the type of the result of the terminal operation
+     * @return the result of the terminal operation
+     * @throws LambdaException with the first reported failure as its cause and the others suppressed, if any failure
+     *                         was reported
+     */
+    public <T> T evaluate(final Supplier<? extends T> terminalOperation) {
+        final T result;
+        try {
+            result = terminalOperation.get();
+        } catch (final RuntimeException ex) {
+            final Exception first = firstFailure.get();
+            if (first == null) {
+                throw ex;
+            }
+            awaitQuiescence();
+            throw aggregate(first);
+        }
+        throwIfFailed();
+        return result;
+    }
+
+    /**
+     * Throws all failures reported so far together, if there are any.
+     *
+     * @throws LambdaException with the first reported failure as its cause and the others suppressed, if any failure
+     *                         was reported
+     */
+    public void throwIfFailed() {
+        final Exception first = firstFailure.get();
+        if (first != null) {
+            throw aggregate(first);
+        }
+    }
+
+    /**
+     * Builds the exception thrown for the reported failures. If none is retained, because they were dropped or drained
+     * while the collector counted as failed, the first failure reported since the last drain is the cause.
+     */
+    private LambdaException aggregate(final Exception first) {
+        final List<Exception> failures = getFailures();
+        final LambdaException aggregate = new LambdaException(failures.isEmpty() ? first : failures.get(0));
+        for (int i = 1; i < failures.size(); i++) {
+            aggregate.addSuppressed(failures.get(i));
+        }
+        return aggregate;
+    }
+
+    private Worker enter(final CancellationToken scope) {
+        final Worker worker = workers.get();
+        worker.enter();
+        try {
+            scope.throwIfCancelled();
+        } catch (final RuntimeException ex) {
+            worker.exit();
+            throw ex;
+        }
+        return worker;
+    }
+
+    private void record(final Exception exception) {
+        if (capacity == Integer.MAX_VALUE) {
+            stripe().add(exception);
+        } else if (retained.get() < capacity && retained.getAndIncrement() < capacity) {
+            stripe().add(exception);
+        } else {
+            dropped.increment();
+        }
+        if (firstFailure.get() == null) {
+            firstFailure.compareAndSet(null, exception);
+        }
+    }
+
+    /**
+     * Parks the calling thread until no other thread has a protected operation in progress.
+     */
+    private void awaitQuiescence() {
+        final Thread current = Thread.currentThread();
+        final Worker self = workers.get();
+        for (final Worker worker : registered) {
+            if (worker == self || worker.active == 0) {
+                continue;
+            }
+            worker.waiter = current;
+            while (worker.active != 0) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            worker.waiter = null;
+        }
+    }
+
+    private Stripe stripe() {
+        return workers.get().stripe;
+    }
+
+    private Worker register() {
+        final Worker worker = new Worker(stripes[assignments.getAndIncrement() & (stripes.length - 1)]);
+        registered.add(worker);
+        return worker;
+    }
+
+    /**
+     * The state of one thread: its stripe, and the number of protected operations it has in progress. The count is
+     * written only by that thread, so it needs no atomic update.
+     */
+    private static final class Worker {
+        private final Stripe stripe;
+        private volatile int active;
+        private volatile Thread waiter;
+
+        Worker(final Stripe stripe) {
+            this.stripe = stripe;
+        }
+
+        void enter() {
+            active = active + 1;
+        }
+
+        void exit() {
+            final int remaining = active - 1;
+            active = remaining;
+            if (remaining == 0) {
+                final Thread thread = waiter;
+                if (thread != null) {
+                    LockSupport.unpark(thread);
+                }
+            }
+        }
+    }
+
+    private static final class Stripe {
+        private final List<Exception> failures = new ArrayList<>();
+
+        synchronized void add(final Exception exception) {
+            failures.add(exception);
+        }
+
+        synchronized void copyTo(final List<Exception> target) {
+            target.addAll(failures);
+        }
+
+        synchronized void drainTo(final List<Exception> target) {
+            target.addAll(failures);
+            failures.clear();
+        }
+    }
+}
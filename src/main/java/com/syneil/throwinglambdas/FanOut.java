@@ -0,0 +1,136 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * The implementation of {@link ThrowingSupplier#invokeAll}, {@link ThrowingRunnable#runAll} and
+ * {@link ThrowingFunction#parallelMap}.
+ * <p>
+ * Each call of {@code invokeAll} or {@code runAll} runs its tasks on the executor shared by all calls from
+ * {@link FanOutExecutors}, which on Java 21 starts a virtual thread per task and otherwise is a bounded pool. The first
+ * task to fail cancels the others, interrupting those already running, and its exception is rethrown unchanged. A call
+ * that ends any other way than by completing every task also cancels the tasks it submitted.
+ * <p>
+ * {@code parallelMap} instead submits to the caller's executor, holding a permit of a {@link Semaphore} for each call
+ * in flight. Once any call has failed, no more are submitted; acquiring every permit then waits for those in flight.
+ */
+final class FanOut {
+    private FanOut() {
+    }
+
+    static <T, E extends Exception> List<T> invokeAll(
+            final Collection<? extends ThrowingSupplier<? extends T, ? extends E>> tasks) throws E {
+        final List<Callable<T>> callables = new ArrayList<>(tasks.size());
+        for (final ThrowingSupplier<? extends T, ? extends E> task : tasks) {
+            Objects.requireNonNull(task);
+            callables.add(task::get);
+        }
+        return run(callables);
+    }
+
+    static <E extends Exception> void runAll(final Collection<? extends ThrowingRunnable<? extends E>> tasks)
+            throws E {
+        final List<Callable<Void>> callables = new ArrayList<>(tasks.size());
+        for (final ThrowingRunnable<? extends E> task : tasks) {
+            Objects.requireNonNull(task);
+            callables.add(() -> {
+                task.run();
+                return null;
+            });
+        }
+        FanOut.<Void, E>run(callables);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R, E extends Exception> List<R> parallelMap(final Collection<? extends T> inputs,
+            final ThrowingFunction<? super T, ? extends R, ? extends E> lambda, final int maxInFlight,
+            final Executor executor) throws E {
+        Objects.requireNonNull(lambda);
+        Objects.requireNonNull(executor);
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        final Object[] results = new Object[inputs.size()];
+        final Semaphore permits = new Semaphore(maxInFlight);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            int i = 0;
+            for (final T input : inputs) {
+                permits.acquire();
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
+                final int index = i++;
+                try {
+                    executor.execute(() -> {
+                        try {
+                            results[index] = lambda.apply(input);
+                        } catch (final Throwable ex) {
+                            failure.compareAndSet(null, ex);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (final RejectedExecutionException ex) {
+                    permits.release();
+                    failure.compareAndSet(null, ex);
+                    break;
+                }
+            }
+            permits.acquire(maxInFlight);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw LambdaException.wrap(ex);
+        }
+        if (failure.get() != null) {
+            throw Futures.<E>rethrow(failure.get());
+        }
+        return (List<R>) Arrays.asList(results);
+    }
+
+    private static <T, E extends Exception> List<T> run(final List<Callable<T>> callables) throws E {
+        final List<T> results = new ArrayList<>(callables.size());
+        if (callables.isEmpty()) {
+            return results;
+        }
+        final List<Future<T>> futures = new ArrayList<>(callables.size());
+        boolean completed = false;
+        try {
+            final CompletionService<T> completion = new ExecutorCompletionService<>(FanOutExecutors.executor());
+            for (final Callable<T> callable : callables) {
+                futures.add(completion.submit(callable));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                final Future<T> done = completion.take();
+                try {
+                    done.get();
+                } catch (final ExecutionException ex) {
+                    throw Futures.<E>rethrow(ex.getCause());
+                }
+            }
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+            completed = true;
+            return results;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw LambdaException.wrap(ex);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException("task failed after completing", ex);
+        } finally {
+            if (!completed) {
+                cancelAll(futures);
+            }
+        }
+    }
+
+    private static void cancelAll(final List<? extends Future<?>> futures) {
+        for (final Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
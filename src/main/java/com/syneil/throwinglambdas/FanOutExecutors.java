@@ -0,0 +1,47 @@
+package com.syneil.throwinglambdas;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * The executor on which {@link FanOut} runs tasks. This version, for Java 8 to 20, is a single pool of daemon threads
+ * shared by every call, created on first use and bounded by the system property {@value #THREADS_PROPERTY} (default
+ * four per available processor). Idle threads time out, and tasks beyond the bound wait in the pool's queue, so the
+ * total number of threads stays bounded however many calls are in progress. A task that itself fans out therefore
+ * waits for threads that may all be occupied by such tasks. The multi-release JAR replaces this class on Java 21 and
+ * later with one that starts a virtual thread per task.
+ */
+final class FanOutExecutors {
+    static final String THREADS_PROPERTY = "com.syneil.throwinglambdas.fanOut.threads";
+
+    private static final int THREADS =
+            Math.max(1, Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors() * 4));
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private FanOutExecutors() {
+    }
+
+    /**
+     * Returns the shared executor. It is never shut down; callers cancel their own tasks.
+     */
+    static Executor executor() {
+        return Pool.INSTANCE;
+    }
+
+    private static final class Pool {
+        static final ThreadPoolExecutor INSTANCE = newPool();
+
+        private static ThreadPoolExecutor newPool() {
+            final AtomicInteger count = new AtomicInteger();
+            final ThreadFactory factory = runnable -> {
+                final Thread thread = new Thread(runnable, "throwinglambdas-fan-out-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(THREADS, THREADS, KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.syneil.throwinglambdas;
+
+import java.util.concurrent.*;
+
+/**
+ * Support for the methods that share the outcome of a throwing lambda through a {@link CompletableFuture}, so that the
+ * original exception reaches the caller rather than the {@link CompletionException} that wraps it.
+ */
+final class Futures {
+    private Futures() {
+    }
+
+    /**
+     * Waits for the future and returns its result, or rethrows the exception it completed with unchanged.
+     */
+    static <T, E extends Exception> T join(final CompletableFuture<? extends T> future) throws E {
+        try {
+            return future.join();
+        } catch (final CompletionException | CancellationException ex) {
+            throw Futures.<E>rethrow(unwrap(ex));
+        }
+    }
+
+    /**
+     * Returns the exception wrapped by a {@link CompletionException}, or the given exception if it is not wrapped.
+     */
+    static Throwable unwrap(final Throwable exception) {
+        Throwable cause = exception;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Throws the exception unchanged: an error as such, and any other exception without declaring it.
+     */
+    static <E extends Exception> RuntimeException rethrow(final Throwable exception) throws E {
+        if (exception instanceof Error) {
+            throw (Error) exception;
+        }
+        throw Sneaky.<E>rethrow((Exception) exception);
+    }
+}
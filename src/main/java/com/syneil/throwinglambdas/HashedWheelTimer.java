@@ -0,0 +1,250 @@
+package com.syneil.throwinglambdas;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+
+/**
+ * The timer behind the {@code withTimeout(lambda, timeout)} methods.
+ * <p>
+ * A single daemon thread serves every timeout, however many calls are in progress. Time is divided into ticks of
+ * {@value #TICK_MILLIS} ms, and the wheel has one bucket per tick of a revolution; a timeout is held in the bucket of
+ * its deadline's tick, with the number of further revolutions it must wait. On each tick the thread expires the due
+ * timeouts of one bucket, which is a doubly-linked list, so removing a timeout is O(1).
+ * <p>
+ * Callers never touch the wheel. Scheduling a timeout appends it to a lock-free queue that the thread drains on its
+ * next tick, and cancelling it is a compare-and-set of its state, after which it is queued for the thread to unlink.
+ * So both are O(1) and take no lock. The thread parks while no timeouts are outstanding.
+ */
+final class HashedWheelTimer {
+    private static final long TICK_MILLIS = 1L;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    private static final int WHEEL_LENGTH = 512;
+    private static final int MASK = WHEEL_LENGTH - 1;
+    private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE >> 2;
+
+    private static final HashedWheelTimer INSTANCE = new HashedWheelTimer();
+
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final Bucket[] wheel = new Bucket[WHEEL_LENGTH];
+    private final Thread worker;
+    private volatile boolean idle;
+
+    // Accessed only by the worker thread
+    private long startTime;
+    private long tick;
+    private int size;
+
+    private HashedWheelTimer() {
+        for (int i = 0; i < WHEEL_LENGTH; i++) {
+            wheel[i] = new Bucket();
+        }
+        worker = new Thread(this::work, "throwinglambdas-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Invokes lambda on the calling thread, interrupting it if lambda has not completed within the given time. The
+     * deadline is cancelled however lambda exits, including by an error, so the thread is never interrupted later.
+     */
+    static <T, E extends Exception> T call(
+            final ThrowingSupplier<? extends T, ? extends E> lambda, final Duration timeout, final long nanos)
+            throws E {
+        final Timeout deadline = INSTANCE.schedule(nanos);
+        final T result;
+        try {
+            result = lambda.get();
+        } catch (final Exception ex) {
+            if (!deadline.cancel()) {
+                throw new LambdaTimeoutException(timeout, ex);
+            }
+            throw ex;
+        } finally {
+            deadline.cancel();
+        }
+        if (!deadline.cancel()) {
+            throw new LambdaTimeoutException(timeout, null);
+        }
+        return result;
+    }
+
+    /**
+     * Converts a timeout to nanoseconds, saturating at a bound within which deadlines can be compared.
+     */
+    static long toNanos(final Duration timeout) {
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        }
+        try {
+            return Math.min(timeout.toNanos(), MAX_TIMEOUT_NANOS);
+        } catch (final ArithmeticException ex) {
+            return MAX_TIMEOUT_NANOS;
+        }
+    }
+
+    private Timeout schedule(final long nanos) {
+        final Thread thread = Thread.currentThread();
+        final Timeout timeout = new Timeout(thread, System.nanoTime() + nanos, thread.isInterrupted());
+        scheduled.add(timeout);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    private void work() {
+        startTime = System.nanoTime();
+        while (true) {
+            if (size == 0 && scheduled.isEmpty()) {
+                idle = true;
+                while (scheduled.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                startTime = System.nanoTime();
+                tick = 0L;
+            }
+            final long tickEnd = startTime + (tick + 1) * TICK_NANOS;
+            for (long wait; (wait = tickEnd - System.nanoTime()) > 0L; ) {
+                LockSupport.parkNanos(this, wait);
+            }
+            unlinkCancelled();
+            transferScheduled();
+            expire(wheel[(int) (tick & MASK)], tickEnd);
+            tick++;
+        }
+    }
+
+    private void unlinkCancelled() {
+        for (Timeout timeout; (timeout = cancelled.poll()) != null; ) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                size--;
+            }
+        }
+    }
+
+    private void transferScheduled() {
+        for (Timeout timeout; (timeout = scheduled.poll()) != null; ) {
+            if (timeout.get() == Timeout.CANCELLED) {
+                continue;
+            }
+            final long due = Math.max((timeout.deadline - startTime) / TICK_NANOS, tick);
+            timeout.remainingRounds = (due - tick) / WHEEL_LENGTH;
+            wheel[(int) (due & MASK)].add(timeout);
+            size++;
+        }
+    }
+
+    private void expire(final Bucket bucket, final long tickEnd) {
+        for (Timeout timeout = bucket.head, next; timeout != null; timeout = next) {
+            next = timeout.next;
+            if (timeout.remainingRounds > 0L) {
+                timeout.remainingRounds--;
+            } else if (timeout.deadline - tickEnd <= 0L) {
+                bucket.remove(timeout);
+                size--;
+                timeout.expire();
+            }
+        }
+    }
+
+    /**
+     * A deadline for one call. The state moves from PENDING to CANCELLED when the call completes in time, or to FIRING
+     * and then EXPIRED when the timer interrupts it.
+     */
+    @SuppressWarnings("serial")
+    private final class Timeout extends AtomicInteger {
+        static final int PENDING = 0;
+        static final int CANCELLED = 1;
+        static final int FIRING = 2;
+        static final int EXPIRED = 3;
+
+        final Thread thread;
+        final long deadline;
+        final boolean wasInterrupted;
+
+        // Accessed only by the calling thread
+        boolean interruptCleared;
+
+        // Accessed only by the worker thread
+        long remainingRounds;
+        Bucket bucket;
+        Timeout prev;
+        Timeout next;
+
+        Timeout(final Thread thread, final long deadline, final boolean wasInterrupted) {
+            this.thread = thread;
+            this.deadline = deadline;
+            this.wasInterrupted = wasInterrupted;
+        }
+
+        /**
+         * Cancels the timeout, returning false if it has already expired. In that case, waits for the interrupt to be
+         * delivered and then clears it, unless the thread was already interrupted when the timeout was scheduled. May
+         * be called more than once; the interrupt is cleared only the first time.
+         */
+        boolean cancel() {
+            if (compareAndSet(PENDING, CANCELLED)) {
+                cancelled.add(this);
+                return true;
+            }
+            if (get() == CANCELLED) {
+                return true;
+            }
+            while (get() == FIRING) {
+                Thread.yield();
+            }
+            if (!interruptCleared) {
+                interruptCleared = true;
+                if (!wasInterrupted) {
+                    Thread.interrupted();
+                }
+            }
+            return false;
+        }
+
+        void expire() {
+            if (compareAndSet(PENDING, FIRING)) {
+                thread.interrupt();
+                set(EXPIRED);
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(final Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(final Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
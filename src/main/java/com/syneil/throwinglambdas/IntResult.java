@@ -0,0 +1,117 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * The outcome of a throwing {@code int}-valued operation: either the value it produced or the exception it threw.
+ * This is the {@code int}-producing primitive specialization of {@link Result}, returned by the
+ * {@code attempt(lambda)} methods of the {@code int}-producing throwing interfaces.
+ * <p>
+ * The class is final with final fields and no identity-sensitive behaviour, so a successful outcome that does not
+ * escape the caller may be scalar-replaced by the JIT compiler and never allocated.
+ */
+public final class IntResult {
+    private final int value;
+    private final Exception exception;
+
+    private IntResult(final int value, final Exception exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns a successful outcome.
+     *
+     * @param value the value produced
+     * @return a successful outcome with the given value
+     */
+    public static IntResult success(final int value) {
+        return new IntResult(value, null);
+    }
+
+    /**
+     * Returns a failed outcome.
+     *
+     * @param exception the exception thrown
+     * @return a failed outcome with the given exception
+     * @throws NullPointerException if exception is null
+     */
+    public static IntResult failure(final Exception exception) {
+        return new IntResult(0, Objects.requireNonNull(exception));
+    }
+
+    /**
+     * @return true if the operation produced a value
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * @return true if the operation threw an exception
+     */
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    /**
+     * Returns the value produced, or throws the exception the operation threw. An unchecked exception is rethrown
+     * unchanged; a checked exception is thrown as the cause of a runtime {@link LambdaException}.
+     *
+     * @return the value produced
+     * @throws RuntimeException the exception itself, if the operation threw an unchecked exception
+     * @throws LambdaException  with the exception as its cause, if the operation threw a checked exception
+     */
+    public int getAsInt() {
+        if (exception != null) {
+            throw LambdaException.wrap(exception);
+        }
+        return value;
+    }
+
+    /**
+     * @return the exception thrown, or null if the operation produced a value
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    /**
+     * @param other the value to return on failure
+     * @return the value produced, or other if the operation threw an exception
+     */
+    public int orElse(final int other) {
+        return exception == null ? value : other;
+    }
+
+    /**
+     * @param fallback the function from the exception thrown to the value to return on failure
+     * @return the value produced, or the result of applying fallback to the exception thrown
+     */
+    public int orElseGet(final ToIntFunction<? super Exception> fallback) {
+        return exception == null ? value : fallback.applyAsInt(exception);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntResult)) {
+            return false;
+        }
+        final IntResult other = (IntResult) obj;
+        return value == other.value && Objects.equals(exception, other.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(value) + Objects.hashCode(exception);
+    }
+
+    @Override
+    public String toString() {
+        return exception == null ? "IntResult.success[" + value + "]" : "IntResult.failure[" + exception + "]";
+    }
+}
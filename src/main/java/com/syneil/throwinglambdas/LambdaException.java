@@ -1,15 +1,186 @@
 package com.syneil.throwinglambdas;
 
+import java.io.*;
+
 /**
  * Thrown from within functional interfaces to wrap checked exceptions that would otherwise violate the standard
  * {@code java.util.function} interfaces.
+ * <p>
+ * The useful stack trace is usually that of the cause, so a {@code LambdaException} may be created without a stack
+ * trace of its own. This is done per call with the {@code protectStackless(lambda)} methods, or for every
+ * {@code protect(lambda)} by setting the {@value #STACKLESS_PROPERTY} system property to {@code true}. Where many
+ * identical failures are expected, {@link StackTraceSampling} captures stack traces for only a sample of them.
+ * <p>
+ * By default the full stack trace is captured eagerly. On Java 9 and later, setting the {@value #STACK_DEPTH_PROPERTY}
+ * system property to a positive number captures only that many of the innermost frames, with a {@code StackWalker},
+ * and converts them to {@link StackTraceElement}s only when the stack trace is requested with {@link #getStackTrace()}
+ * or printed with {@link #printStackTrace}. The outer frames are never captured, so the stack trace stays truncated
+ * to that many frames however it is later read; the cause's own stack trace is unaffected. Note also that in this mode
+ * a {@code LambdaException} printed as the cause of another exception before its own stack trace has been requested is
+ * printed without one.
+ * <p>
+ * Only checked exceptions are wrapped. Unchecked exceptions, including a {@code LambdaException} thrown by a nested
+ * protected operation, are relayed unchanged. A {@code LambdaException} with a cause is never the cause of another:
+ * constructing one with such a {@code LambdaException} cause takes the {@link #rootCause() root cause} instead, so that
+ * chains of {@code LambdaException}s do not form. One without a cause is wrapped as it is.
  */
 public class LambdaException extends RuntimeException {
     /**
-     * Constructor with a cause
+     * The system property that, when {@code true}, makes every {@code protect(lambda)} throw {@code LambdaException}s
+     * without a stack trace of their own.
+     */
+    public static final String STACKLESS_PROPERTY = "com.syneil.throwinglambdas.stackless";
+
+    /**
+     * The system property giving the number of frames captured lazily on Java 9 and later. If it is not set, or not
+     * positive, the full stack trace is captured eagerly.
+     */
+    public static final String STACK_DEPTH_PROPERTY = "com.syneil.throwinglambdas.stackDepth";
+
+    private static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    private final Exception rootCause;
+
+    // Assigned by fillInStackTrace() during construction, so it must not have an initializer
+    private transient Object frames;
+
+    /**
+     * Constructor with a cause. If the cause is itself a {@code LambdaException}, its root cause is used instead.
      * @param cause the underlying cause of the exception
      */
     public LambdaException(final Exception cause) {
-        super(cause);
+        this(cause, true);
+    }
+
+    /**
+     * Constructor with a cause and a choice of whether to capture a stack trace. The stack trace of the cause is
+     * unaffected. If the cause is itself a {@code LambdaException}, its root cause is used instead. The stack trace is
+     * not captured if {@link StackTraceSampling} suppresses it.
+     * @param cause              the underlying cause of the exception
+     * @param writableStackTrace whether or not the stack trace should be captured and writable
+     */
+    public LambdaException(final Exception cause, final boolean writableStackTrace) {
+        this(true, writableStackTrace, unwrap(cause));
+    }
+
+    /**
+     * Constructor with a cause and a choice of whether to enable suppression and capture a stack trace, for exceptions
+     * that are shared between threads.
+     * @param cause              the underlying cause of the exception
+     * @param enableSuppression  whether or not suppression is enabled
+     * @param writableStackTrace whether or not the stack trace should be captured and writable
+     */
+    LambdaException(final Exception cause, final boolean enableSuppression, final boolean writableStackTrace) {
+        this(enableSuppression, writableStackTrace, unwrap(cause));
+    }
+
+    private LambdaException(final boolean enableSuppression, final boolean writableStackTrace, final Exception root) {
+        super(root == null ? null : root.toString(), root, enableSuppression,
+                writableStackTrace && StackTraceSampling.shouldCapture(root));
+        this.rootCause = root;
+    }
+
+    /**
+     * Returns the exception originally wrapped. Since a {@code LambdaException} wraps another only if that one has no
+     * cause, this is the same as {@link #getCause()}, without synchronization or traversal of the chain of causes.
+     * @return the exception originally wrapped, or null if there is none
+     */
+    public Exception rootCause() {
+        return rootCause;
+    }
+
+    /**
+     * Wraps a checked cause, capturing a stack trace unless the {@value #STACKLESS_PROPERTY} system property is set.
+     * @param cause the underlying cause of the exception
+     * @return a new exception wrapping the cause, or the cause itself if it is unchecked
+     */
+    static RuntimeException wrap(final Exception cause) {
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new LambdaException(cause, !STACKLESS);
+    }
+
+    /**
+     * Wraps a checked cause if it is of the given type, capturing a stack trace unless the {@value #STACKLESS_PROPERTY}
+     * system property is set. Any other cause is rethrown unchanged.
+     * @param cause       the underlying cause of the exception
+     * @param checkedType the type of checked exception to wrap
+     * @return a new exception wrapping the cause, or the cause itself if it is unchecked
+     */
+    static RuntimeException wrap(final Exception cause, final Class<? extends Exception> checkedType) {
+        if (checkedType.isInstance(cause)) {
+            return wrap(cause);
+        }
+        throw Sneaky.<RuntimeException>rethrow(cause);
+    }
+
+    /**
+     * Wraps a checked cause without capturing a stack trace.
+     * @param cause the underlying cause of the exception
+     * @return a new exception wrapping the cause, or the cause itself if it is unchecked
+     */
+    static RuntimeException wrapStackless(final Exception cause) {
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new LambdaException(cause, false);
+    }
+
+    /**
+     * Captures the current stack. On Java 9 and later only the frames are recorded, to be converted to a stack trace
+     * on demand.
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        final Object captured = StackCapture.capture();
+        if (captured == null) {
+            return super.fillInStackTrace();
+        }
+        frames = captured;
+        return this;
+    }
+
+    @Override
+    public StackTraceElement[] getStackTrace() {
+        materialise();
+        return super.getStackTrace();
+    }
+
+    @Override
+    public synchronized void setStackTrace(final StackTraceElement[] stackTrace) {
+        super.setStackTrace(stackTrace);
+        frames = null;
+    }
+
+    @Override
+    public void printStackTrace(final PrintStream s) {
+        materialise();
+        super.printStackTrace(s);
+    }
+
+    @Override
+    public void printStackTrace(final PrintWriter s) {
+        materialise();
+        super.printStackTrace(s);
+    }
+
+    private Object writeReplace() {
+        materialise();
+        return this;
+    }
+
+    private synchronized void materialise() {
+        if (frames != null) {
+            super.setStackTrace(StackCapture.materialise(frames));
+            frames = null;
+        }
+    }
+
+    /**
+     * Returns the root cause of a {@code LambdaException} cause, or the cause itself if it is any other exception or a
+     * {@code LambdaException} without a cause.
+     */
+    private static Exception unwrap(final Exception cause) {
+        if (cause instanceof LambdaException) {
+            final Exception root = ((LambdaException) cause).rootCause;
+            return root == null ? cause : root;
+        }
+        return cause;
     }
 }
@@ -0,0 +1,33 @@
+package com.syneil.throwinglambdas;
+
+import java.time.*;
+
+/**
+ * Thrown by the operations returned by the {@code withTimeout(lambda, timeout)} methods when lambda has not completed
+ * within its timeout.
+ * <p>
+ * The lambda is interrupted at the deadline, and the exception it then throws, if any, is the cause of this one; a
+ * lambda that ignores the interrupt and completes late still times out, and its result is discarded.
+ */
+public class LambdaTimeoutException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final Duration timeout;
+
+    /**
+     * Constructor with the timeout that expired and the exception thrown by the interrupted lambda.
+     * @param timeout the timeout that expired
+     * @param cause   the exception thrown by the lambda after it was interrupted, or null if it completed normally
+     */
+    public LambdaTimeoutException(final Duration timeout, final Exception cause) {
+        super("Timed out after " + timeout, cause);
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return the timeout that expired
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,225 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+
+/**
+ * Implementations of the {@code memoize(lambda)} methods of the throwing supplier interfaces.
+ * <p>
+ * Each supplier computes its result at most once, under its own lock, and publishes it with a write to a volatile state
+ * field. Once the result is published, reads take no lock and primitive results are not boxed. A failure either is
+ * published in the same way, to be rethrown by every later call, or leaves the supplier unset so that the next call
+ * tries again. The underlying lambda is released once the outcome is published.
+ */
+final class Memoization {
+    private static final int UNSET = 0;
+    private static final int COMPUTED = 1;
+    private static final int FAILED = 2;
+
+    private Memoization() {
+    }
+
+    static final class MemoizedSupplier<T, E extends Exception> implements ThrowingSupplier<T, E> {
+        private final boolean cacheFailures;
+        private ThrowingSupplier<? extends T, ? extends E> lambda;
+        private T value;
+        private Exception failure;
+        private volatile int state;
+
+        MemoizedSupplier(final ThrowingSupplier<? extends T, ? extends E> lambda, final boolean cacheFailures) {
+            this.lambda = Objects.requireNonNull(lambda);
+            this.cacheFailures = cacheFailures;
+        }
+
+        @Override
+        public T get() throws E {
+            if (state == UNSET) {
+                compute();
+            }
+            if (state == FAILED) {
+                throw Sneaky.<E>rethrow(failure);
+            }
+            return value;
+        }
+
+        private synchronized void compute() throws E {
+            if (state != UNSET) {
+                return;
+            }
+            try {
+                value = lambda.get();
+                state = COMPUTED;
+            } catch (final Exception ex) {
+                if (!cacheFailures) {
+                    throw ex;
+                }
+                failure = ex;
+                state = FAILED;
+            }
+            lambda = null;
+        }
+    }
+
+    static final class MemoizedIntSupplier<E extends Exception> implements ThrowingIntSupplier<E> {
+        private final boolean cacheFailures;
+        private ThrowingIntSupplier<? extends E> lambda;
+        private int value;
+        private Exception failure;
+        private volatile int state;
+
+        MemoizedIntSupplier(final ThrowingIntSupplier<? extends E> lambda, final boolean cacheFailures) {
+            this.lambda = Objects.requireNonNull(lambda);
+            this.cacheFailures = cacheFailures;
+        }
+
+        @Override
+        public int getAsInt() throws E {
+            if (state == UNSET) {
+                compute();
+            }
+            if (state == FAILED) {
+                throw Sneaky.<E>rethrow(failure);
+            }
+            return value;
+        }
+
+        private synchronized void compute() throws E {
+            if (state != UNSET) {
+                return;
+            }
+            try {
+                value = lambda.getAsInt();
+                state = COMPUTED;
+            } catch (final Exception ex) {
+                if (!cacheFailures) {
+                    throw ex;
+                }
+                failure = ex;
+                state = FAILED;
+            }
+            lambda = null;
+        }
+    }
+
+    static final class MemoizedLongSupplier<E extends Exception> implements ThrowingLongSupplier<E> {
+        private final boolean cacheFailures;
+        private ThrowingLongSupplier<? extends E> lambda;
+        private long value;
+        private Exception failure;
+        private volatile int state;
+
+        MemoizedLongSupplier(final ThrowingLongSupplier<? extends E> lambda, final boolean cacheFailures) {
+            this.lambda = Objects.requireNonNull(lambda);
+            this.cacheFailures = cacheFailures;
+        }
+
+        @Override
+        public long getAsLong() throws E {
+            if (state == UNSET) {
+                compute();
+            }
+            if (state == FAILED) {
+                throw Sneaky.<E>rethrow(failure);
+            }
+            return value;
+        }
+
+        private synchronized void compute() throws E {
+            if (state != UNSET) {
+                return;
+            }
+            try {
+                value = lambda.getAsLong();
+                state = COMPUTED;
+            } catch (final Exception ex) {
+                if (!cacheFailures) {
+                    throw ex;
+                }
+                failure = ex;
+                state = FAILED;
+            }
+            lambda = null;
+        }
+    }
+
+    static final class MemoizedDoubleSupplier<E extends Exception> implements ThrowingDoubleSupplier<E> {
+        private final boolean cacheFailures;
+        private ThrowingDoubleSupplier<? extends E> lambda;
+        private double value;
+        private Exception failure;
+        private volatile int state;
+
+        MemoizedDoubleSupplier(final ThrowingDoubleSupplier<? extends E> lambda, final boolean cacheFailures) {
+            this.lambda = Objects.requireNonNull(lambda);
+            this.cacheFailures = cacheFailures;
+        }
+
+        @Override
+        public double getAsDouble() throws E {
+            if (state == UNSET) {
+                compute();
+            }
+            if (state == FAILED) {
+                throw Sneaky.<E>rethrow(failure);
+            }
+            return value;
+        }
+
+        private synchronized void compute() throws E {
+            if (state != UNSET) {
+                return;
+            }
+            try {
+                value = lambda.getAsDouble();
+                state = COMPUTED;
+            } catch (final Exception ex) {
+                if (!cacheFailures) {
+                    throw ex;
+                }
+                failure = ex;
+                state = FAILED;
+            }
+            lambda = null;
+        }
+    }
+
+    static final class MemoizedBooleanSupplier<E extends Exception> implements ThrowingBooleanSupplier<E> {
+        private final boolean cacheFailures;
+        private ThrowingBooleanSupplier<? extends E> lambda;
+        private boolean value;
+        private Exception failure;
+        private volatile int state;
+
+        MemoizedBooleanSupplier(final ThrowingBooleanSupplier<? extends E> lambda, final boolean cacheFailures) {
+            this.lambda = Objects.requireNonNull(lambda);
+            this.cacheFailures = cacheFailures;
+        }
+
+        @Override
+        public boolean getAsBoolean() throws E {
+            if (state == UNSET) {
+                compute();
+            }
+            if (state == FAILED) {
+                throw Sneaky.<E>rethrow(failure);
+            }
+            return value;
+        }
+
+        private synchronized void compute() throws E {
+            if (state != UNSET) {
+                return;
+            }
+            try {
+                value = lambda.getAsBoolean();
+                state = COMPUTED;
+            } catch (final Exception ex) {
+                if (!cacheFailures) {
+                    throw ex;
+                }
+                failure = ex;
+                state = FAILED;
+            }
+            lambda = null;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * The fork/join tasks behind the {@code parallelReduce} methods of the throwing binary operators.
+ * <p>
+ * A range of elements is split in half until it is no longer than the threshold, and each leaf is folded from the
+ * identity. The tasks of one reduction share a reference to its first failure: an operator that throws records it
+ * there instead of letting it escape into the pool, and every task checks it before each application, so siblings
+ * stop cooperatively within one application of the operator. Primitive tasks keep their results in primitive fields
+ * and are plain actions rather than tasks returning boxed results.
+ */
+final class ParallelReduction {
+    private static final int SPLITS_PER_THREAD = 8;
+
+    private ParallelReduction() {
+    }
+
+    /**
+     * Returns a threshold that divides the elements into about eight leaves per thread of the common pool.
+     */
+    static int defaultThreshold(final int size) {
+        return Math.max(1, size / (ForkJoinPool.getCommonPoolParallelism() * SPLITS_PER_THREAD));
+    }
+
+    static <T, E extends Exception> T reduce(final List<? extends T> elements, final T identity,
+            final ThrowingBinaryOperator<T, ? extends E> operator, final int threshold) throws E {
+        Objects.requireNonNull(operator);
+        checkThreshold(threshold);
+        final List<? extends T> indexed = elements instanceof RandomAccess ? elements : new ArrayList<>(elements);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final T result = ForkJoinPool.commonPool()
+                .invoke(new ObjectTask<>(indexed, identity, operator, threshold, failure, 0, indexed.size()));
+        if (failure.get() != null) {
+            throw Futures.<E>rethrow(failure.get());
+        }
+        return result;
+    }
+
+    static <E extends Exception> int reduce(final int[] elements, final int identity,
+            final ThrowingIntBinaryOperator<? extends E> operator, final int threshold) throws E {
+        Objects.requireNonNull(operator);
+        checkThreshold(threshold);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final IntTask<E> task =
+                new IntTask<>(elements, identity, operator, threshold, failure, 0, elements.length);
+        ForkJoinPool.commonPool().invoke(task);
+        if (failure.get() != null) {
+            throw Futures.<E>rethrow(failure.get());
+        }
+        return task.result();
+    }
+
+    static <E extends Exception> long reduce(final long[] elements, final long identity,
+            final ThrowingLongBinaryOperator<? extends E> operator, final int threshold) throws E {
+        Objects.requireNonNull(operator);
+        checkThreshold(threshold);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final LongTask<E> task =
+                new LongTask<>(elements, identity, operator, threshold, failure, 0, elements.length);
+        ForkJoinPool.commonPool().invoke(task);
+        if (failure.get() != null) {
+            throw Futures.<E>rethrow(failure.get());
+        }
+        return task.result();
+    }
+
+    static <E extends Exception> double reduce(final double[] elements, final double identity,
+            final ThrowingDoubleBinaryOperator<? extends E> operator, final int threshold) throws E {
+        Objects.requireNonNull(operator);
+        checkThreshold(threshold);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final DoubleTask<E> task =
+                new DoubleTask<>(elements, identity, operator, threshold, failure, 0, elements.length);
+        ForkJoinPool.commonPool().invoke(task);
+        if (failure.get() != null) {
+            throw Futures.<E>rethrow(failure.get());
+        }
+        return task.result();
+    }
+
+    private static void checkThreshold(final int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ObjectTask<T, E extends Exception> extends RecursiveTask<T> {
+        private final List<? extends T> elements;
+        private final T identity;
+        private final ThrowingBinaryOperator<T, ? extends E> operator;
+        private final int threshold;
+        private final AtomicReference<Throwable> failure;
+        private final int lo;
+        private final int hi;
+
+        ObjectTask(final List<? extends T> elements, final T identity,
+                final ThrowingBinaryOperator<T, ? extends E> operator, final int threshold,
+                final AtomicReference<Throwable> failure, final int lo, final int hi) {
+            this.elements = elements;
+            this.identity = identity;
+            this.operator = operator;
+            this.threshold = threshold;
+            this.failure = failure;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        private ObjectTask(final ObjectTask<T, E> parent, final int lo, final int hi) {
+            this(parent.elements, parent.identity, parent.operator, parent.threshold, parent.failure, lo, hi);
+        }
+
+        @Override
+        protected T compute() {
+            try {
+                if (hi - lo <= threshold) {
+                    T result = identity;
+                    for (int i = lo; i < hi && failure.get() == null; i++) {
+                        result = operator.apply(result, elements.get(i));
+                    }
+                    return result;
+                }
+                final int mid = (lo + hi) >>> 1;
+                final ObjectTask<T, E> right = new ObjectTask<>(this, mid, hi);
+                right.fork();
+                final T left = new ObjectTask<>(this, lo, mid).compute();
+                final T result = right.join();
+                return failure.get() == null ? operator.apply(left, result) : identity;
+            } catch (final Throwable ex) {
+                failure.compareAndSet(null, ex);
+                return identity;
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class IntTask<E extends Exception> extends RecursiveAction {
+        private final int[] elements;
+        private final int identity;
+        private final ThrowingIntBinaryOperator<? extends E> operator;
+        private final int threshold;
+        private final AtomicReference<Throwable> failure;
+        private final int lo;
+        private final int hi;
+        private int result;
+
+        IntTask(final int[] elements, final int identity,
+                final ThrowingIntBinaryOperator<? extends E> operator, final int threshold,
+                final AtomicReference<Throwable> failure, final int lo, final int hi) {
+            this.elements = elements;
+            this.identity = identity;
+            this.operator = operator;
+            this.threshold = threshold;
+            this.failure = failure;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        private IntTask(final IntTask<E> parent, final int lo, final int hi) {
+            this(parent.elements, parent.identity, parent.operator, parent.threshold, parent.failure, lo, hi);
+        }
+
+        int result() {
+            return result;
+        }
+
+        @Override
+        protected void compute() {
+            result = reduce();
+        }
+
+        private int reduce() {
+            try {
+                if (hi - lo <= threshold) {
+                    int acc = identity;
+                    for (int i = lo; i < hi && failure.get() == null; i++) {
+                        acc = operator.applyAsInt(acc, elements[i]);
+                    }
+                    return acc;
+                }
+                final int mid = (lo + hi) >>> 1;
+                final IntTask<E> right = new IntTask<>(this, mid, hi);
+                right.fork();
+                final int left = new IntTask<>(this, lo, mid).reduce();
+                right.join();
+                return failure.get() == null ? operator.applyAsInt(left, right.result) : identity;
+            } catch (final Throwable ex) {
+                failure.compareAndSet(null, ex);
+                return identity;
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class LongTask<E extends Exception> extends RecursiveAction {
+        private final long[] elements;
+        private final long identity;
+        private final ThrowingLongBinaryOperator<? extends E> operator;
+        private final int threshold;
+        private final AtomicReference<Throwable> failure;
+        private final int lo;
+        private final int hi;
+        private long result;
+
+        LongTask(final long[] elements, final long identity,
+                final ThrowingLongBinaryOperator<? extends E> operator, final int threshold,
+                final AtomicReference<Throwable> failure, final int lo, final int hi) {
+            this.elements = elements;
+            this.identity = identity;
+            this.operator = operator;
+            this.threshold = threshold;
+            this.failure = failure;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        private LongTask(final LongTask<E> parent, final int lo, final int hi) {
+            this(parent.elements, parent.identity, parent.operator, parent.threshold, parent.failure, lo, hi);
+        }
+
+        long result() {
+            return result;
+        }
+
+        @Override
+        protected void compute() {
+            result = reduce();
+        }
+
+        private long reduce() {
+            try {
+                if (hi - lo <= threshold) {
+                    long acc = identity;
+                    for (int i = lo; i < hi && failure.get() == null; i++) {
+                        acc = operator.applyAsLong(acc, elements[i]);
+                    }
+                    return acc;
+                }
+                final int mid = (lo + hi) >>> 1;
+                final LongTask<E> right = new LongTask<>(this, mid, hi);
+                right.fork();
+                final long left = new LongTask<>(this, lo, mid).reduce();
+                right.join();
+                return failure.get() == null ? operator.applyAsLong(left, right.result) : identity;
+            } catch (final Throwable ex) {
+                failure.compareAndSet(null, ex);
+                return identity;
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class DoubleTask<E extends Exception> extends RecursiveAction {
+        private final double[] elements;
+        private final double identity;
+        private final ThrowingDoubleBinaryOperator<? extends E> operator;
+        private final int threshold;
+        private final AtomicReference<Throwable> failure;
+        private final int lo;
+        private final int hi;
+        private double result;
+
+        DoubleTask(final double[] elements, final double identity,
+                final ThrowingDoubleBinaryOperator<? extends E> operator, final int threshold,
+                final AtomicReference<Throwable> failure, final int lo, final int hi) {
+            this.elements = elements;
+            this.identity = identity;
+            this.operator = operator;
+            this.threshold = threshold;
+            this.failure = failure;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        private DoubleTask(final DoubleTask<E> parent, final int lo, final int hi) {
+            this(parent.elements, parent.identity, parent.operator, parent.threshold, parent.failure, lo, hi);
+        }
+
+        double result() {
+            return result;
+        }
+
+        @Override
+        protected void compute() {
+            result = reduce();
+        }
+
+        private double reduce() {
+            try {
+                if (hi - lo <= threshold) {
+                    double acc = identity;
+                    for (int i = lo; i < hi && failure.get() == null; i++) {
+                        acc = operator.applyAsDouble(acc, elements[i]);
+                    }
+                    return acc;
+                }
+                final int mid = (lo + hi) >>> 1;
+                final DoubleTask<E> right = new DoubleTask<>(this, mid, hi);
+                right.fork();
+                final double left = new DoubleTask<>(this, lo, mid).reduce();
+                right.join();
+                return failure.get() == null ? operator.applyAsDouble(left, right.result) : identity;
+            } catch (final Throwable ex) {
+                failure.compareAndSet(null, ex);
+                return identity;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.syneil.throwinglambdas;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * The table behind the {@code memoize(lambda, lo, hi)} methods of the primitive throwing predicates: two concurrent
+ * bitsets over the domain, one recording which values have been tested and the other their results.
+ * <p>
+ * A result bit is always set before its known bit, and both are set with atomic updates, so a reader that sees a
+ * known bit also sees the result. A lookup therefore costs two word reads, and a value tested concurrently by several
+ * threads is evaluated more than once but recorded consistently.
+ */
+final class PredicateBits {
+    static final int UNKNOWN = -1;
+
+    private static final long MAX_WORDS = Integer.MAX_VALUE - 8;
+
+    private final AtomicLongArray known;
+    private final AtomicLongArray values;
+
+    /**
+     * @throws IllegalArgumentException if hi is less than lo or the domain is too large for a bitset
+     */
+    PredicateBits(final long lo, final long hi) {
+        final long span = hi - lo;
+        if (hi < lo || span < 0 || (span >>> 6) + 1 > MAX_WORDS) {
+            throw new IllegalArgumentException("invalid domain: [" + lo + ", " + hi + "]");
+        }
+        final int words = (int) ((span >>> 6) + 1);
+        known = new AtomicLongArray(words);
+        values = new AtomicLongArray(words);
+    }
+
+    /**
+     * Returns 1 or 0 for a value recorded as true or false, or {@link #UNKNOWN} if it has not been recorded.
+     */
+    int get(final long index) {
+        final int word = (int) (index >>> 6);
+        final long bit = 1L << index;
+        if ((known.get(word) & bit) == 0) {
+            return UNKNOWN;
+        }
+        return (values.get(word) & bit) == 0 ? 0 : 1;
+    }
+
+    void set(final long index, final boolean value) {
+        final int word = (int) (index >>> 6);
+        final long bit = 1L << index;
+        if (value) {
+            setBit(values, word, bit);
+        }
+        setBit(known, word, bit);
+    }
+
+    private static void setBit(final AtomicLongArray bits, final int word, final long bit) {
+        long current;
+        while (((current = bits.get(word)) & bit) == 0 && !bits.compareAndSet(word, current, current | bit)) {
+            continue;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.syneil.throwinglambdas;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * The implementation of {@link ThrowingSupplier#refreshAhead}.
+ * <p>
+ * The current value and the time it was loaded are published together as an immutable snapshot in a volatile field,
+ * so serving a fresh or stale value is a single volatile read. At most one asynchronous refresh is in flight at a
+ * time; loads on the caller's thread, when there is no value or it has expired, are serialised by the supplier's lock.
+ * After a failed refresh, no other is attempted for a quarter of refreshAfter, so a failing source is not retried on
+ * every call.
+ */
+final class RefreshingSupplier<T, E extends Exception> implements ThrowingSupplier<T, E> {
+    private final ThrowingSupplier<? extends T, ? extends E> lambda;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final Executor executor;
+    private final Consumer<? super Exception> onFailure;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Snapshot<T> current;
+    private volatile long retryTime = System.nanoTime();
+
+    RefreshingSupplier(final ThrowingSupplier<? extends T, ? extends E> lambda, final Duration refreshAfter,
+            final Duration expireAfter, final Executor executor, final Consumer<? super Exception> onFailure) {
+        this.lambda = Objects.requireNonNull(lambda);
+        this.executor = Objects.requireNonNull(executor);
+        this.onFailure = Objects.requireNonNull(onFailure);
+        refreshAfterNanos = toNanos(refreshAfter);
+        expireAfterNanos = toNanos(expireAfter);
+        if (refreshAfterNanos <= 0) {
+            throw new IllegalArgumentException("refreshAfter must be positive: " + refreshAfter);
+        }
+        if (expireAfterNanos < refreshAfterNanos) {
+            throw new IllegalArgumentException(
+                    "expireAfter must not be less than refreshAfter: " + expireAfter + " < " + refreshAfter);
+        }
+    }
+
+    @Override
+    public T get() throws E {
+        final Snapshot<T> snapshot = current;
+        if (snapshot == null) {
+            return load();
+        }
+        final long now = System.nanoTime();
+        final long age = now - snapshot.loadTime;
+        if (age >= expireAfterNanos) {
+            return load();
+        }
+        if (age >= refreshAfterNanos && now - retryTime >= 0L) {
+            refreshAsync();
+        }
+        return snapshot.value;
+    }
+
+    private synchronized T load() throws E {
+        final Snapshot<T> snapshot = current;
+        if (snapshot != null && System.nanoTime() - snapshot.loadTime < expireAfterNanos) {
+            return snapshot.value;
+        }
+        final T value = lambda.get();
+        current = new Snapshot<>(value, System.nanoTime());
+        return value;
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::refresh);
+        } catch (final RejectedExecutionException ex) {
+            backOff();
+            refreshing.set(false);
+            onFailure.accept(ex);
+        }
+    }
+
+    private void refresh() {
+        try {
+            final T value = lambda.get();
+            current = new Snapshot<>(value, System.nanoTime());
+        } catch (final Exception ex) {
+            backOff();
+            onFailure.accept(ex);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private void backOff() {
+        retryTime = System.nanoTime() + refreshAfterNanos / 4;
+    }
+
+    private static long toNanos(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException ex) {
+            return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Snapshot<T> {
+        private final T value;
+        private final long loadTime;
+
+        Snapshot(final T value, final long loadTime) {
+            this.value = value;
+            this.loadTime = loadTime;
+        }
+    }
+}
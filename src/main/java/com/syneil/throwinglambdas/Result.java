@@ -0,0 +1,138 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * The outcome of a throwing operation: either the value it produced or the exception it threw. Instances are returned
+ * by the {@code attempt(lambda)} methods so that failures flow through a stream as data, to be filtered or partitioned,
+ * rather than unwinding it.
+ *
+ * @param <T> the type of the value produced on success
+ */
+public final class Result<T> {
+    private final T value;
+    private final Exception exception;
+
+    private Result(final T value, final Exception exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns a successful outcome.
+     *
+     * @param value the value produced, which may be null
+     * @param <T>   the type of the value
+     * @return a successful outcome with the given value
+     */
+    public static <T> Result<T> success(final T value) {
+        return new Result<>(value, null);
+    }
+
+    /**
+     * Returns a failed outcome.
+     *
+     * @param exception the exception thrown
+     * @param <T>       the type of the value that would have been produced
+     * @return a failed outcome with the given exception
+     * @throws NullPointerException if exception is null
+     */
+    public static <T> Result<T> failure(final Exception exception) {
+        return new Result<>(null, Objects.requireNonNull(exception));
+    }
+
+    /**
+     * @return true if the operation produced a value
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * @return true if the operation threw an exception
+     */
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    /**
+     * Returns the value produced, or throws the exception the operation threw. An unchecked exception is rethrown
+     * unchanged; a checked exception is thrown as the cause of a runtime {@link LambdaException}.
+     *
+     * @return the value produced
+     * @throws RuntimeException the exception itself, if the operation threw an unchecked exception
+     * @throws LambdaException  with the exception as its cause, if the operation threw a checked exception
+     */
+    public T get() {
+        if (exception != null) {
+            throw LambdaException.wrap(exception);
+        }
+        return value;
+    }
+
+    /**
+     * @return the exception thrown, or null if the operation produced a value
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    /**
+     * @param other the value to return on failure
+     * @return the value produced, or other if the operation threw an exception
+     */
+    public T orElse(final T other) {
+        return exception == null ? value : other;
+    }
+
+    /**
+     * @param fallback the function from the exception thrown to the value to return on failure
+     * @return the value produced, or the result of applying fallback to the exception thrown
+     */
+    public T orElseGet(final Function<? super Exception, ? extends T> fallback) {
+        return exception == null ? value : fallback.apply(exception);
+    }
+
+    /**
+     * Returns the outcome of applying mapper to the value produced. A failure is returned unchanged.
+     *
+     * @param mapper the function to apply to the value produced
+     * @param <U>    the type of the result of the mapper
+     * @return the mapped outcome
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Result<U> map(final Function<? super T, ? extends U> mapper) {
+        return exception == null ? success(mapper.apply(value)) : (Result<U>) this;
+    }
+
+    /**
+     * @return a stream of the value produced, or an empty stream on failure
+     */
+    public Stream<T> stream() {
+        return exception == null ? Stream.of(value) : Stream.empty();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Result)) {
+            return false;
+        }
+        final Result<?> other = (Result<?>) obj;
+        return Objects.equals(value, other.value) && Objects.equals(exception, other.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, exception);
+    }
+
+    @Override
+    public String toString() {
+        return exception == null ? "Result.success[" + value + "]" : "Result.failure[" + exception + "]";
+    }
+}
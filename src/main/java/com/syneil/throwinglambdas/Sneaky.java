@@ -0,0 +1,80 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Support for the {@code sneaky(lambda)} methods of the throwing functional interfaces, which rethrow checked
+ * exceptions unchanged through the standard {@code java.util.function} interfaces without declaring them.
+ * <p>
+ * The compiler rejects a {@code catch} clause for a checked exception that the {@code try} block does not declare. The
+ * methods of this class re-declare the checked exception type at the point where it is expected to be caught:
+ * <pre>{@code
+ * try {
+ *     Sneaky.run(IOException.class, () -> paths.forEach(ThrowingConsumer.sneaky(Files::delete)));
+ * } catch (final IOException ex) {
+ *     // the original exception, not a wrapper
+ * }
+ * }</pre>
+ */
+public final class Sneaky {
+    private Sneaky() {
+    }
+
+    /**
+     * Declares that the enclosing {@code try} block may throw the given checked exception type. This method does
+     * nothing at run time.
+     *
+     * @param exceptionType the type of checked exception that may be thrown sneakily
+     * @param <E>           the type of checked exception that may be thrown sneakily
+     * @throws E never by this method; declared so that the exception may be caught
+     * @throws NullPointerException if exceptionType is null
+     */
+    public static <E extends Exception> void declare(final Class<E> exceptionType) throws E {
+        Objects.requireNonNull(exceptionType);
+    }
+
+    /**
+     * Runs the action, declaring that it may sneakily throw the given checked exception type.
+     *
+     * @param exceptionType the type of checked exception that may be thrown sneakily
+     * @param action        the action to run
+     * @param <E>           the type of checked exception that may be thrown sneakily
+     * @throws E if the action throws it
+     * @throws NullPointerException if exceptionType or action is null
+     */
+    public static <E extends Exception> void run(final Class<E> exceptionType, final Runnable action) throws E {
+        declare(exceptionType);
+        action.run();
+    }
+
+    /**
+     * Returns the result of the supplier, declaring that it may sneakily throw the given checked exception type.
+     *
+     * @param exceptionType the type of checked exception that may be thrown sneakily
+     * @param supplier      the supplier of the result
+     * @param <T>           the type of the result
+     * @param <E>           the type of checked exception that may be thrown sneakily
+     * @return the result of the supplier
+     * @throws E if the supplier throws it
+     * @throws NullPointerException if exceptionType or supplier is null
+     */
+    public static <T, E extends Exception> T call(final Class<E> exceptionType, final Supplier<? extends T> supplier)
+            throws E {
+        declare(exceptionType);
+        return supplier.get();
+    }
+
+    /**
+     * Throws the exception unchanged, whether checked or not, without declaring it.
+     *
+     * @param exception the exception to throw
+     * @param <X>       the type of exception inferred to be thrown; {@code RuntimeException} when invoked explicitly
+     * @return never; declared so that callers may write {@code throw Sneaky.rethrow(ex)}
+     * @throws X always
+     */
+    @SuppressWarnings("unchecked")
+    static <X extends Exception> RuntimeException rethrow(final Exception exception) throws X {
+        throw (X) exception;
+    }
+}
@@ -0,0 +1,27 @@
+package com.syneil.throwinglambdas;
+
+/**
+ * Lazy capture of the stack traces of {@link LambdaException}s. On Java 8 the stack trace is captured eagerly by
+ * {@link Throwable#fillInStackTrace()}; the multi-release JAR replaces this class on Java 9 and later.
+ */
+final class StackCapture {
+    private StackCapture() {
+    }
+
+    /**
+     * Captures the frames of the current thread's stack, excluding those constructing the exception.
+     * @return the captured frames, or null if the stack trace should be captured eagerly instead
+     */
+    static Object capture() {
+        return null;
+    }
+
+    /**
+     * Converts frames returned by {@link #capture()} to a stack trace.
+     * @param frames the captured frames
+     * @return the stack trace
+     */
+    static StackTraceElement[] materialise(final Object frames) {
+        return new StackTraceElement[0];
+    }
+}
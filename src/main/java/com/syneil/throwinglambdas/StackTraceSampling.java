@@ -0,0 +1,175 @@
+package com.syneil.throwinglambdas;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Opt-in sampling of the stack traces captured by {@link LambdaException}s, for storms of identical failures.
+ * <p>
+ * When enabled, each {@code LambdaException} is fingerprinted by the class of its cause and the site at which the cause
+ * was thrown. Only the first {@value #LIMIT_PROPERTY} exceptions with the same fingerprint in each window of
+ * {@value #WINDOW_PROPERTY} milliseconds capture a stack trace; the rest are created without one and counted as
+ * suppressed. Sampling is configured with system properties, so no call site needs to change:
+ * <ul>
+ *     <li>{@value #ENABLED_PROPERTY}: {@code true} to enable sampling (default {@code false})</li>
+ *     <li>{@value #LIMIT_PROPERTY}: the number of stack traces captured per fingerprint per window (default 10)</li>
+ *     <li>{@value #WINDOW_PROPERTY}: the length of the window in milliseconds (default 60000)</li>
+ * </ul>
+ * The site is the top frame of the cause's own stack trace, read for every cause, so causes thrown at different sites
+ * never share a fingerprint or its budget. Reading it materialises the cause's stack trace, which is cheaper than
+ * capturing and keeping a second one for the {@code LambdaException}, but not free: sampling bounds the stack traces
+ * retained and printed during a storm, rather than the cost of each failure.
+ * <p>
+ * At most {@value #MAX_FINGERPRINTS} fingerprints are tracked. Once that many are tracked, exceptions with any other
+ * fingerprint capture a stack trace until the window ends, when the table is cleared. The suppressed counts of cleared
+ * fingerprints remain in {@link #getSuppressedCount()} but not in {@link #getSuppressedCounts()}.
+ */
+public final class StackTraceSampling {
+    /**
+     * The system property that, when {@code true}, enables sampling.
+     */
+    public static final String ENABLED_PROPERTY = "com.syneil.throwinglambdas.sampling";
+
+    /**
+     * The system property giving the number of stack traces captured per fingerprint per window.
+     */
+    public static final String LIMIT_PROPERTY = "com.syneil.throwinglambdas.sampling.limit";
+
+    /**
+     * The system property giving the length of the window in milliseconds.
+     */
+    public static final String WINDOW_PROPERTY = "com.syneil.throwinglambdas.sampling.window";
+
+    /**
+     * The maximum number of fingerprints tracked.
+     */
+    public static final int MAX_FINGERPRINTS = 1024;
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final int LIMIT = Integer.getInteger(LIMIT_PROPERTY, 10);
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong(WINDOW_PROPERTY, 60_000L));
+
+    private static final ConcurrentMap<Fingerprint, Window> WINDOWS = new ConcurrentHashMap<>();
+    private static final AtomicLong TABLE_START = new AtomicLong(System.nanoTime());
+    private static final LongAdder CLEARED_SUPPRESSED = new LongAdder();
+
+    private StackTraceSampling() {
+    }
+
+    /**
+     * @return true if sampling is enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @return the total number of stack traces suppressed so far
+     */
+    public static long getSuppressedCount() {
+        long total = CLEARED_SUPPRESSED.sum();
+        for (final Window window : WINDOWS.values()) {
+            total += window.suppressed.sum();
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of stack traces suppressed so far, by fingerprint, described as the cause's class name and
+     *         the site at which it was thrown, since the table of fingerprints was last cleared
+     */
+    public static Map<String, Long> getSuppressedCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        WINDOWS.forEach((fingerprint, window) -> counts.put(fingerprint.toString(), window.suppressed.sum()));
+        return counts;
+    }
+
+    /**
+     * Decides whether a {@code LambdaException} with the given cause should capture a stack trace.
+     * @param cause the cause of the exception being created
+     * @return true if a stack trace should be captured
+     */
+    static boolean shouldCapture(final Exception cause) {
+        if (!ENABLED || cause == null) {
+            return true;
+        }
+        final long now = System.nanoTime();
+        final StackTraceElement[] trace = cause.getStackTrace();
+        final Fingerprint fingerprint = new Fingerprint(cause.getClass(), trace.length == 0 ? null : trace[0]);
+        Window window = WINDOWS.get(fingerprint);
+        if (window == null) {
+            if (isFull(now)) {
+                return true;
+            }
+            window = WINDOWS.computeIfAbsent(fingerprint, f -> new Window());
+        }
+        return window.tryCapture(now);
+    }
+
+    /**
+     * Returns true if the table of fingerprints is full, clearing it instead if a window has passed since it was last
+     * cleared.
+     */
+    private static boolean isFull(final long now) {
+        if (WINDOWS.size() < MAX_FINGERPRINTS) {
+            return false;
+        }
+        final long start = TABLE_START.get();
+        if (now - start < WINDOW_NANOS || !TABLE_START.compareAndSet(start, now)) {
+            return true;
+        }
+        for (final Iterator<Window> windows = WINDOWS.values().iterator(); windows.hasNext(); ) {
+            CLEARED_SUPPRESSED.add(windows.next().suppressed.sum());
+            windows.remove();
+        }
+        return false;
+    }
+
+    private static final class Fingerprint {
+        private final Class<?> type;
+        private final StackTraceElement site;
+
+        Fingerprint(final Class<?> type, final StackTraceElement site) {
+            this.type = type;
+            this.site = site;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Fingerprint)) {
+                return false;
+            }
+            final Fingerprint other = (Fingerprint) obj;
+            return type == other.type && Objects.equals(site, other.site);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Objects.hashCode(site);
+        }
+
+        @Override
+        public String toString() {
+            return site == null ? type.getName() : type.getName() + " at " + site;
+        }
+    }
+
+    private static final class Window {
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+        private final AtomicInteger captured = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+
+        boolean tryCapture(final long now) {
+            final long begin = start.get();
+            if (now - begin >= WINDOW_NANOS && start.compareAndSet(begin, now)) {
+                captured.set(0);
+            }
+            if (captured.get() < LIMIT && captured.incrementAndGet() <= LIMIT) {
+                return true;
+            }
+            suppressed.increment();
+            return false;
+        }
+    }
+}
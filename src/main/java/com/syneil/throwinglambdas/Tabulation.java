@@ -0,0 +1,56 @@
+package com.syneil.throwinglambdas;
+
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+/**
+ * Support for the {@code tabulate(lambda, lo, hi)} methods of the {@code int}-accepting throwing interfaces, which
+ * evaluate a lambda once for each value of a small domain and return a lookup into the table of its results.
+ */
+final class Tabulation {
+    private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    private Tabulation() {
+    }
+
+    /**
+     * Returns the number of values from lo to hi inclusive.
+     *
+     * @throws IllegalArgumentException if hi is less than lo or the domain is too large for an array
+     */
+    static int length(final int lo, final int hi) {
+        final long length = (long) hi - lo + 1;
+        if (length <= 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("invalid domain: [" + lo + ", " + hi + "]");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Performs the action for each value from lo to hi inclusive, in order unless parallel. In parallel, the first
+     * exception thrown stops the remaining values from being started and is rethrown unchanged once those already
+     * started have finished.
+     */
+    static <E extends Exception> void forEach(final int lo, final int hi, final boolean parallel,
+            final ThrowingIntConsumer<? extends E> action) throws E {
+        if (!parallel) {
+            for (int i = lo; i <= hi && i >= lo; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        IntStream.rangeClosed(lo, hi).parallel().forEach(i -> {
+            if (failure.get() == null) {
+                try {
+                    action.accept(i);
+                } catch (final Exception ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            }
+        });
+        if (failure.get() != null) {
+            throw Sneaky.<E>rethrow(failure.get());
+        }
+    }
+}
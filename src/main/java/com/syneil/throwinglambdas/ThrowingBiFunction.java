@@ -57,11 +57,188 @@ public interface ThrowingBiFunction<T, U, R, E extends Exception> {
             try {
                 return lambda.apply(t, u);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe function
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the first argument to the function
+     * @param <U>           the type of the second argument to the function
+     * @param <R>           the type of the result of the function
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe function that accepts two arguments and produces a result
+     */
+    static <T, U, R, X extends Exception> BiFunction<T, U, R> protect(
+            final ThrowingBiFunction<? super T, ? super U, ? extends R, ? extends X> lambda,
+            final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return (t, u) -> {
+            try {
+                return lambda.apply(t, u);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the first argument to the function
+     * @param <U>    the type of the second argument to the function
+     * @param <R>    the type of the result of the function
+     * @return a safe function that accepts two arguments and produces a result
+     */
+    static <T, U, R> BiFunction<T, U, R> protectStackless(
+            final ThrowingBiFunction<? super T, ? super U, ? extends R, Exception> lambda) {
+        return (t, u) -> {
+            try {
+                return lambda.apply(t, u);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the first argument to the function
+     * @param <U>    the type of the second argument to the function
+     * @param <R>    the type of the result of the function
+     * @return a safe function that accepts two arguments and produces a result
+     */
+    static <T, U, R> BiFunction<T, U, R> sneaky(
+            final ThrowingBiFunction<? super T, ? super U, ? extends R, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingBiFunction<? super T, ? super U, ? extends R, RuntimeException> unchecked =
+                (ThrowingBiFunction<? super T, ? super U, ? extends R, RuntimeException>) lambda;
+        return unchecked::apply;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link Result}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the first argument to the function
+     * @param <U>    the type of the second argument to the function
+     * @param <R>    the type of the result of the function
+     * @return a safe version of lambda that returns its outcome as a {@code Result}
+     */
+    static <T, U, R> BiFunction<T, U, Result<R>> attempt(
+            final ThrowingBiFunction<? super T, ? super U, ? extends R, ? extends Exception> lambda) {
+        return (t, u) -> {
+            final R result;
+            try {
+                result = lambda.apply(t, u);
+            } catch (final Exception ex) {
+                return Result.failure(ex);
+            }
+            return Result.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe function
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <T>          the type of the first argument to the function
+     * @param <U>          the type of the second argument to the function
+     * @param <R>          the type of the result of the function
+     * @return a safe function that accepts two arguments and produces a result
+     */
+    static <T, U, R> BiFunction<T, U, R> protectOrElse(
+            final ThrowingBiFunction<? super T, ? super U, ? extends R, ? extends Exception> lambda,
+            final R defaultValue) {
+        return (t, u) -> {
+            try {
+                return lambda.apply(t, u);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe function
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param <R>      the type of the result of the function
+     * @return a safe function that accepts two arguments and produces a result
+     */
+    static <T, U, R> BiFunction<T, U, R> protectOrElseGet(
+            final ThrowingBiFunction<? super T, ? super U, ? extends R, ? extends Exception> lambda,
+            final Function<? super Exception, ? extends R> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return lambda.apply(t, u);
+            } catch (final Exception ex) {
+                return fallback.apply(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that caches its results in a concurrent cache bounded as specified, so that lambda is
+     * invoked only on a miss. An exception thrown by lambda is rethrown unchanged and, if the specification caches
+     * failures, rethrown by later lookups of the same arguments. Arguments are compared with {@code equals},
+     * individually, so no pair is allocated to look them up and a hit allocates nothing.
+     *
+     * @param lambda the unsafe function
+     * @param spec   the bound, expiry and failure caching of the cache
+     * @param <T>    the type of the first argument to the function
+     * @param <U>    the type of the second argument to the function
+     * @param <R>    the type of the result of the function
+     * @param <E>    the type of exception that lambda may throw
+     * @return a caching function that accepts two arguments and produces a result
+     * @see CacheSpec
+     */
+    @SuppressWarnings("unchecked")
+    static <T, U, R, E extends Exception> ThrowingBiFunction<T, U, R, E> memoize(
+            final ThrowingBiFunction<? super T, ? super U, ? extends R, ? extends E> lambda, final CacheSpec spec) {
+        Objects.requireNonNull(lambda);
+        final BoundedCache cache = new BoundedCache(spec);
+        return (t, u) -> {
+            final int hash = BoundedCache.hash(t, u);
+            final BoundedCache.Entry cached = cache.find(t, u, hash);
+            if (cached != null) {
+                if (cached.failure != null) {
+                    throw Sneaky.<E>rethrow(cached.failure);
+                }
+                return (R) cached.value;
+            }
+            final R result;
+            try {
+                result = lambda.apply(t, u);
+            } catch (final Exception ex) {
+                cache.putFailure(t, u, hash, ex);
+                throw ex;
+            }
+            cache.put(t, u, hash, result, 0L);
+            return result;
+        };
+    }
+
     /**
      * Applies this function to the given arguments.
      *
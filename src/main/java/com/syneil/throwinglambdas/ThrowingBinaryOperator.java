@@ -55,7 +55,126 @@ public interface ThrowingBinaryOperator<T, E extends Exception> extends Throwing
             try {
                 return lambda.apply(t, u);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the operands and result of the operator
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation upon two operands of the same type, producing a result of the same type as the operands
+     */
+    static <T, X extends Exception> BinaryOperator<T> protect(
+            final ThrowingBinaryOperator<T, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return (t, u) -> {
+            try {
+                return lambda.apply(t, u);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the operands and result of the operator
+     * @return a safe operation upon two operands of the same type, producing a result of the same type as the operands
+     */
+    static <T> BinaryOperator<T> protectStackless(final ThrowingBinaryOperator<T, Exception> lambda) {
+        return (t, u) -> {
+            try {
+                return lambda.apply(t, u);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the operands and result of the operator
+     * @return a safe operation upon two operands of the same type, producing a result of the same type as the operands
+     */
+    static <T> BinaryOperator<T> sneaky(final ThrowingBinaryOperator<T, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingBinaryOperator<T, RuntimeException> unchecked =
+                (ThrowingBinaryOperator<T, RuntimeException>) lambda;
+        return unchecked::apply;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link Result}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the operands and result of the operator
+     * @return a safe version of lambda that returns its outcome as a {@code Result}
+     */
+    static <T> BiFunction<T, T, Result<T>> attempt(final ThrowingBinaryOperator<T, ? extends Exception> lambda) {
+        return (t, u) -> {
+            final T result;
+            try {
+                result = lambda.apply(t, u);
+            } catch (final Exception ex) {
+                return Result.failure(ex);
+            }
+            return Result.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <T>          the type of the operands and result of the operator
+     * @return a safe operation upon two operands of the same type, producing a result of the same type as the operands
+     */
+    static <T> BinaryOperator<T> protectOrElse(
+            final ThrowingBinaryOperator<T, ? extends Exception> lambda, final T defaultValue) {
+        return (t, u) -> {
+            try {
+                return lambda.apply(t, u);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <T>      the type of the operands and result of the operator
+     * @return a safe operation upon two operands of the same type, producing a result of the same type as the operands
+     */
+    static <T> BinaryOperator<T> protectOrElseGet(
+            final ThrowingBinaryOperator<T, ? extends Exception> lambda,
+            final Function<? super Exception, ? extends T> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return lambda.apply(t, u);
+            } catch (final Exception ex) {
+                return fallback.apply(ex);
             }
         };
     }
@@ -89,4 +208,93 @@ public interface ThrowingBinaryOperator<T, E extends Exception> extends Throwing
         Objects.requireNonNull(comparator);
         return (a, b) -> comparator.compare(a, b) >= 0 ? a : b;
     }
+
+    /**
+     * Reduces the elements in parallel on the common fork/join pool, combining them with lambda, which must be
+     * associative, and starting each partial reduction from identity, which must be an identity for lambda. As soon as
+     * any application of lambda throws an exception, the other subtasks stop before their next application and the
+     * exception is rethrown unchanged. The elements are split into about eight subtasks per thread of the pool.
+     *
+     * @param elements the elements to reduce
+     * @param identity the identity value for lambda
+     * @param lambda   the unsafe operation
+     * @param <T>      the type of the operands and result of the operator
+     * @param <E>      the type of exception that lambda may throw
+     * @return the reduction of the elements, or identity if there are none
+     * @throws E if lambda throws it
+     */
+    static <T, E extends Exception> T parallelReduce(
+            final T[] elements, final T identity, final ThrowingBinaryOperator<T, ? extends E> lambda) throws E {
+        return parallelReduce(elements, identity, lambda, ParallelReduction.defaultThreshold(elements.length));
+    }
+
+    /**
+     * Reduces the elements in parallel on the common fork/join pool, combining them with lambda, which must be
+     * associative, and starting each partial reduction from identity, which must be an identity for lambda. As soon as
+     * any application of lambda throws an exception, the other subtasks stop before their next application and the
+     * exception is rethrown unchanged. Ranges of at most threshold elements are reduced sequentially rather than split
+     * further.
+     *
+     * @param elements  the elements to reduce
+     * @param identity  the identity value for lambda
+     * @param lambda    the unsafe operation
+     * @param threshold the greatest number of elements reduced by a single subtask
+     * @param <T>       the type of the operands and result of the operator
+     * @param <E>       the type of exception that lambda may throw
+     * @return the reduction of the elements, or identity if there are none
+     * @throws E if lambda throws it
+     * @throws IllegalArgumentException if threshold is not positive
+     */
+    static <T, E extends Exception> T parallelReduce(
+            final T[] elements,
+            final T identity,
+            final ThrowingBinaryOperator<T, ? extends E> lambda,
+            final int threshold) throws E {
+        return ParallelReduction.reduce(Arrays.asList(elements), identity, lambda, threshold);
+    }
+
+    /**
+     * Reduces the elements in parallel on the common fork/join pool, combining them with lambda, which must be
+     * associative, and starting each partial reduction from identity, which must be an identity for lambda. As soon as
+     * any application of lambda throws an exception, the other subtasks stop before their next application and the
+     * exception is rethrown unchanged. The elements are split into about eight subtasks per thread of the pool.
+     *
+     * @param elements the elements to reduce
+     * @param identity the identity value for lambda
+     * @param lambda   the unsafe operation
+     * @param <T>      the type of the operands and result of the operator
+     * @param <E>      the type of exception that lambda may throw
+     * @return the reduction of the elements, or identity if there are none
+     * @throws E if lambda throws it
+     */
+    static <T, E extends Exception> T parallelReduce(
+            final List<? extends T> elements, final T identity, final ThrowingBinaryOperator<T, ? extends E> lambda)
+            throws E {
+        return parallelReduce(elements, identity, lambda, ParallelReduction.defaultThreshold(elements.size()));
+    }
+
+    /**
+     * Reduces the elements in parallel on the common fork/join pool, combining them with lambda, which must be
+     * associative, and starting each partial reduction from identity, which must be an identity for lambda. As soon as
+     * any application of lambda throws an exception, the other subtasks stop before their next application and the
+     * exception is rethrown unchanged. Ranges of at most threshold elements are reduced sequentially rather than split
+     * further.
+     *
+     * @param elements  the elements to reduce
+     * @param identity  the identity value for lambda
+     * @param lambda    the unsafe operation
+     * @param threshold the greatest number of elements reduced by a single subtask
+     * @param <T>       the type of the operands and result of the operator
+     * @param <E>       the type of exception that lambda may throw
+     * @return the reduction of the elements, or identity if there are none
+     * @throws E if lambda throws it
+     * @throws IllegalArgumentException if threshold is not positive
+     */
+    static <T, E extends Exception> T parallelReduce(
+            final List<? extends T> elements,
+            final T identity,
+            final ThrowingBinaryOperator<T, ? extends E> lambda,
+            final int threshold) throws E {
+        return ParallelReduction.reduce(elements, identity, lambda, threshold);
+    }
 }
@@ -25,6 +25,7 @@
 package com.syneil.throwinglambdas;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -51,11 +52,146 @@ public interface ThrowingConsumer<T, E extends Exception> {
             try {
                 lambda.accept(t);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the input to the operation
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation that accepts one argument and returns no result
+     */
+    static <T, X extends Exception> Consumer<T> protect(
+            final ThrowingConsumer<? super T, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return t -> {
+            try {
+                lambda.accept(t);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the input to the operation
+     * @return a safe operation that accepts one argument and returns no result
+     */
+    static <T> Consumer<T> protectStackless(final ThrowingConsumer<? super T, Exception> lambda) {
+        return t -> {
+            try {
+                lambda.accept(t);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException}, and cancels the token. Once the token has been cancelled, by this or any other
+     * operation sharing it, the returned operation skips further elements by throwing the token's
+     * {@link LambdaException}, whose cause is the first failure, rather than invoking lambda. Unchecked
+     * exceptions are relayed unchanged, but likewise cancel the token.
+     *
+     * @param lambda the unsafe operation
+     * @param token  the token shared by the operations that stop together
+     * @param <T>    the type of the input to the operation
+     * @return a safe operation that accepts one argument and returns no result
+     * @see CancellationToken
+     */
+    static <T> Consumer<T> protect(
+            final ThrowingConsumer<? super T, ? extends Exception> lambda, final CancellationToken token) {
+        Objects.requireNonNull(token);
+        return t -> {
+            token.throwIfCancelled();
+            try {
+                lambda.accept(t);
+            } catch (final Exception ex) {
+                throw token.fail(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the input to the operation
+     * @return a safe operation that accepts one argument and returns no result
+     */
+    static <T> Consumer<T> sneaky(final ThrowingConsumer<? super T, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingConsumer<? super T, RuntimeException> unchecked =
+                (ThrowingConsumer<? super T, RuntimeException>) lambda;
+        return unchecked::accept;
+    }
+
+    /**
+     * Returns a safe version of lambda that passes any exception it throws to the handler and then returns normally,
+     * so that processing continues. No {@link LambdaException} is created on failure. A {@link FailureCollector} is
+     * a suitable handler for use from a parallel stream.
+     *
+     * @param lambda  the unsafe operation
+     * @param handler the handler of any exception thrown by lambda
+     * @param <T>     the type of the input to the operation
+     * @return a safe operation that accepts one argument and returns no result
+     */
+    static <T> Consumer<T> protect(
+            final ThrowingConsumer<? super T, ? extends Exception> lambda, final Consumer<? super Exception> handler) {
+        Objects.requireNonNull(handler);
+        return t -> {
+            try {
+                lambda.accept(t);
+            } catch (final Exception ex) {
+                handler.accept(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a new future that, when the stage completes normally, is completed once lambda has accepted the stage's
+     * result, or exceptionally with the exception lambda throws, unchanged. If the stage completes exceptionally, so
+     * does the returned future, with the original exception rather than a {@link CompletionException} wrapping it.
+     * Lambda is invoked by the thread that completes the stage, or by the caller if it has already completed.
+     *
+     * @param stage  the stage whose result is passed to lambda
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the input to the operation
+     * @return a future completed with the outcome of lambda
+     */
+    static <T> CompletableFuture<Void> thenAccept(
+            final CompletionStage<? extends T> stage, final ThrowingConsumer<? super T, ? extends Exception> lambda) {
+        Objects.requireNonNull(lambda);
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        stage.whenComplete((value, failure) -> {
+            if (failure != null) {
+                future.completeExceptionally(Futures.unwrap(failure));
+                return;
+            }
+            try {
+                lambda.accept(value);
+            } catch (final Throwable ex) {
+                future.completeExceptionally(ex);
+                return;
+            }
+            future.complete(null);
+        });
+        return future;
+    }
 
     /**
      * Performs this operation on the given argument.
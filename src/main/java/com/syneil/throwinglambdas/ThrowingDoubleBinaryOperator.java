@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -52,11 +53,168 @@ public interface ThrowingDoubleBinaryOperator<E extends Exception> {
             try {
                 return lambda.applyAsDouble(left, right);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation upon two doubles that produces a double
+     */
+    static <X extends Exception> DoubleBinaryOperator protect(
+            final ThrowingDoubleBinaryOperator<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return (left, right) -> {
+            try {
+                return lambda.applyAsDouble(left, right);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation upon two doubles that produces a double
+     */
+    static DoubleBinaryOperator protectStackless(final ThrowingDoubleBinaryOperator<Exception> lambda) {
+        return (left, right) -> {
+            try {
+                return lambda.applyAsDouble(left, right);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation upon two doubles that produces a double
+     */
+    static DoubleBinaryOperator sneaky(final ThrowingDoubleBinaryOperator<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingDoubleBinaryOperator<RuntimeException> unchecked =
+                (ThrowingDoubleBinaryOperator<RuntimeException>) lambda;
+        return unchecked::applyAsDouble;
+    }
+
+    /**
+     * Applies lambda to the given operands, capturing its outcome, either its result or the exception it throws, as
+     * a {@link DoubleResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @param left   the first operand
+     * @param right  the second operand
+     * @return the outcome of applying lambda to the operands
+     */
+    static DoubleResult attempt(
+            final ThrowingDoubleBinaryOperator<? extends Exception> lambda, final double left, final double right) {
+        final double result;
+        try {
+            result = lambda.applyAsDouble(left, right);
+        } catch (final Exception ex) {
+            return DoubleResult.failure(ex);
+        }
+        return DoubleResult.success(result);
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe operation upon two doubles that produces a double
+     */
+    static DoubleBinaryOperator protectOrElse(
+            final ThrowingDoubleBinaryOperator<? extends Exception> lambda, final double defaultValue) {
+        return (left, right) -> {
+            try {
+                return lambda.applyAsDouble(left, right);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe operation upon two doubles that produces a double
+     */
+    static DoubleBinaryOperator protectOrElseGet(
+            final ThrowingDoubleBinaryOperator<? extends Exception> lambda,
+            final ToDoubleFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return (left, right) -> {
+            try {
+                return lambda.applyAsDouble(left, right);
+            } catch (final Exception ex) {
+                return fallback.applyAsDouble(ex);
+            }
+        };
+    }
+
+    /**
+     * Reduces the elements in parallel on the common fork/join pool, combining them with lambda, which must be
+     * associative, and starting each partial reduction from identity, which must be an identity for lambda. As soon as
+     * any application of lambda throws an exception, the other subtasks stop before their next application and the
+     * exception is rethrown unchanged. The elements are split into about eight subtasks per thread of the pool.
+     *
+     * @param elements the elements to reduce
+     * @param identity the identity value for lambda
+     * @param lambda   the unsafe operation
+     * @param <E>      the type of exception that lambda may throw
+     * @return the reduction of the elements, or identity if there are none
+     * @throws E if lambda throws it
+     */
+    static <E extends Exception> double parallelReduce(
+            final double[] elements, final double identity, final ThrowingDoubleBinaryOperator<? extends E> lambda)
+            throws E {
+        return parallelReduce(elements, identity, lambda, ParallelReduction.defaultThreshold(elements.length));
+    }
+
+    /**
+     * Reduces the elements in parallel on the common fork/join pool, combining them with lambda, which must be
+     * associative, and starting each partial reduction from identity, which must be an identity for lambda. As soon as
+     * any application of lambda throws an exception, the other subtasks stop before their next application and the
+     * exception is rethrown unchanged. Ranges of at most threshold elements are reduced sequentially rather than split
+     * further.
+     *
+     * @param elements  the elements to reduce
+     * @param identity  the identity value for lambda
+     * @param lambda    the unsafe operation
+     * @param threshold the greatest number of elements reduced by a single subtask
+     * @param <E>       the type of exception that lambda may throw
+     * @return the reduction of the elements, or identity if there are none
+     * @throws E if lambda throws it
+     * @throws IllegalArgumentException if threshold is not positive
+     */
+    static <E extends Exception> double parallelReduce(
+            final double[] elements,
+            final double identity,
+            final ThrowingDoubleBinaryOperator<? extends E> lambda,
+            final int threshold) throws E {
+        return ParallelReduction.reduce(elements, identity, lambda, threshold);
+    }
+
     /**
      * Applies this operator to the given operands.
      *
@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -53,7 +54,127 @@ public interface ThrowingDoubleFunction<R, E extends Exception> {
             try {
                 return lambda.apply(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <R>           the type of the result of the function
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe function that accepts one double and produces a result
+     */
+    static <R, X extends Exception> DoubleFunction<R> protect(
+            final ThrowingDoubleFunction<? extends R, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.apply(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @param <R>    the type of the result of the function
+     * @return a safe function that accepts one double and produces a result
+     */
+    static <R> DoubleFunction<R> protectStackless(final ThrowingDoubleFunction<? extends R, Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.apply(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @param <R>    the type of the result of the function
+     * @return a safe function that accepts one double and produces a result
+     */
+    static <R> DoubleFunction<R> sneaky(final ThrowingDoubleFunction<? extends R, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingDoubleFunction<? extends R, RuntimeException> unchecked =
+                (ThrowingDoubleFunction<? extends R, RuntimeException>) lambda;
+        return unchecked::apply;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link Result}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @param <R>    the type of the result of the function
+     * @return a safe version of lambda that returns its outcome as a {@code Result}
+     */
+    static <R> DoubleFunction<Result<R>> attempt(
+            final ThrowingDoubleFunction<? extends R, ? extends Exception> lambda) {
+        return value -> {
+            final R result;
+            try {
+                result = lambda.apply(value);
+            } catch (final Exception ex) {
+                return Result.failure(ex);
+            }
+            return Result.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <R>          the type of the result of the function
+     * @return a safe function that accepts one double and produces a result
+     */
+    static <R> DoubleFunction<R> protectOrElse(
+            final ThrowingDoubleFunction<? extends R, ? extends Exception> lambda, final R defaultValue) {
+        return value -> {
+            try {
+                return lambda.apply(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <R>      the type of the result of the function
+     * @return a safe function that accepts one double and produces a result
+     */
+    static <R> DoubleFunction<R> protectOrElseGet(
+            final ThrowingDoubleFunction<? extends R, ? extends Exception> lambda,
+            final Function<? super Exception, ? extends R> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.apply(value);
+            } catch (final Exception ex) {
+                return fallback.apply(ex);
             }
         };
     }
@@ -51,7 +51,118 @@ public interface ThrowingDoublePredicate<E extends Exception> {
             try {
                 return lambda.test(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe predicate
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe predicate of a double
+     */
+    static <X extends Exception> DoublePredicate protect(
+            final ThrowingDoublePredicate<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe predicate of a double
+     */
+    static DoublePredicate protectStackless(final ThrowingDoublePredicate<Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe predicate of a double
+     */
+    static DoublePredicate sneaky(final ThrowingDoublePredicate<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingDoublePredicate<RuntimeException> unchecked = (ThrowingDoublePredicate<RuntimeException>) lambda;
+        return unchecked::test;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link BooleanResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe version of lambda that returns its outcome as a {@code BooleanResult}
+     */
+    static DoubleFunction<BooleanResult> attempt(final ThrowingDoublePredicate<? extends Exception> lambda) {
+        return value -> {
+            final boolean result;
+            try {
+                result = lambda.test(value);
+            } catch (final Exception ex) {
+                return BooleanResult.failure(ex);
+            }
+            return BooleanResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe predicate
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe predicate of a double
+     */
+    static DoublePredicate protectOrElse(
+            final ThrowingDoublePredicate<? extends Exception> lambda, final boolean defaultValue) {
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe predicate
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe predicate of a double
+     */
+    static DoublePredicate protectOrElseGet(
+            final ThrowingDoublePredicate<? extends Exception> lambda, final Predicate<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                return fallback.test(ex);
             }
         };
     }
@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -51,11 +52,151 @@ public interface ThrowingDoubleSupplier<E extends Exception> {
             try {
                 return lambda.getAsDouble();
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe supplier
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe supplier of doubles
+     */
+    static <X extends Exception> DoubleSupplier protect(
+            final ThrowingDoubleSupplier<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return () -> {
+            try {
+                return lambda.getAsDouble();
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe supplier
+     * @return a safe supplier of doubles
+     */
+    static DoubleSupplier protectStackless(final ThrowingDoubleSupplier<Exception> lambda) {
+        return () -> {
+            try {
+                return lambda.getAsDouble();
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe supplier
+     * @return a safe supplier of doubles
+     */
+    static DoubleSupplier sneaky(final ThrowingDoubleSupplier<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingDoubleSupplier<RuntimeException> unchecked = (ThrowingDoubleSupplier<RuntimeException>) lambda;
+        return unchecked::getAsDouble;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link DoubleResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe supplier
+     * @return a safe version of lambda that returns its outcome as a {@code DoubleResult}
+     */
+    static Supplier<DoubleResult> attempt(final ThrowingDoubleSupplier<? extends Exception> lambda) {
+        return () -> {
+            final double result;
+            try {
+                result = lambda.getAsDouble();
+            } catch (final Exception ex) {
+                return DoubleResult.failure(ex);
+            }
+            return DoubleResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe supplier
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe supplier of doubles
+     */
+    static DoubleSupplier protectOrElse(
+            final ThrowingDoubleSupplier<? extends Exception> lambda, final double defaultValue) {
+        return () -> {
+            try {
+                return lambda.getAsDouble();
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe supplier
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe supplier of doubles
+     */
+    static DoubleSupplier protectOrElseGet(
+            final ThrowingDoubleSupplier<? extends Exception> lambda,
+            final ToDoubleFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return () -> {
+            try {
+                return lambda.getAsDouble();
+            } catch (final Exception ex) {
+                return fallback.applyAsDouble(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that invokes it at most once, on the first call, and returns the same result to every
+     * later call. Concurrent first calls wait for a single invocation, and later calls read the result without locking.
+     * If lambda throws an exception, it is rethrown unchanged and the next call invokes lambda again.
+     *
+     * @param lambda the unsafe supplier
+     * @param <E>    the type of exception that lambda may throw
+     * @return a supplier that computes its result once
+     */
+    static <E extends Exception> ThrowingDoubleSupplier<E> memoize(final ThrowingDoubleSupplier<? extends E> lambda) {
+        return memoize(lambda, false);
+    }
+
+    /**
+     * Returns a version of lambda that invokes it at most once, on the first call, and returns the same result to every
+     * later call. Concurrent first calls wait for a single invocation, and later calls read the result without locking.
+     * If lambda throws an exception, it is rethrown unchanged; if cacheFailures is true, the same exception is rethrown
+     * by every later call, otherwise the next call invokes lambda again.
+     *
+     * @param lambda        the unsafe supplier
+     * @param cacheFailures whether an exception thrown by lambda is remembered in place of a result
+     * @param <E>           the type of exception that lambda may throw
+     * @return a supplier that computes its outcome once
+     */
+    static <E extends Exception> ThrowingDoubleSupplier<E> memoize(
+            final ThrowingDoubleSupplier<? extends E> lambda, final boolean cacheFailures) {
+        return new Memoization.MemoizedDoubleSupplier<>(lambda, cacheFailures);
+    }
 
     /**
      * Gets a result.
@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -51,7 +52,120 @@ public interface ThrowingDoubleToIntFunction<E extends Exception> {
             try {
                 return lambda.applyAsInt(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe function
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe function that accepts a double and produces an int
+     */
+    static <X extends Exception> DoubleToIntFunction protect(
+            final ThrowingDoubleToIntFunction<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe function
+     * @return a safe function that accepts a double and produces an int
+     */
+    static DoubleToIntFunction protectStackless(final ThrowingDoubleToIntFunction<Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe function
+     * @return a safe function that accepts a double and produces an int
+     */
+    static DoubleToIntFunction sneaky(final ThrowingDoubleToIntFunction<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingDoubleToIntFunction<RuntimeException> unchecked =
+                (ThrowingDoubleToIntFunction<RuntimeException>) lambda;
+        return unchecked::applyAsInt;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as an
+     * {@link IntResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe function
+     * @return a safe version of lambda that returns its outcome as an {@code IntResult}
+     */
+    static DoubleFunction<IntResult> attempt(final ThrowingDoubleToIntFunction<? extends Exception> lambda) {
+        return value -> {
+            final int result;
+            try {
+                result = lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                return IntResult.failure(ex);
+            }
+            return IntResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe function
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe function that accepts a double and produces an int
+     */
+    static DoubleToIntFunction protectOrElse(
+            final ThrowingDoubleToIntFunction<? extends Exception> lambda, final int defaultValue) {
+        return value -> {
+            try {
+                return lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe function
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe function that accepts a double and produces an int
+     */
+    static DoubleToIntFunction protectOrElseGet(
+            final ThrowingDoubleToIntFunction<? extends Exception> lambda,
+            final ToIntFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                return fallback.applyAsInt(ex);
             }
         };
     }
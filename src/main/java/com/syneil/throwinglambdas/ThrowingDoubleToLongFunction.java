@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -51,7 +52,120 @@ public interface ThrowingDoubleToLongFunction<E extends Exception> {
             try {
                 return lambda.applyAsLong(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe function
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe function that accepts a double and produces a long
+     */
+    static <X extends Exception> DoubleToLongFunction protect(
+            final ThrowingDoubleToLongFunction<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.applyAsLong(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe function
+     * @return a safe function that accepts a double and produces a long
+     */
+    static DoubleToLongFunction protectStackless(final ThrowingDoubleToLongFunction<Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.applyAsLong(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe function
+     * @return a safe function that accepts a double and produces a long
+     */
+    static DoubleToLongFunction sneaky(final ThrowingDoubleToLongFunction<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingDoubleToLongFunction<RuntimeException> unchecked =
+                (ThrowingDoubleToLongFunction<RuntimeException>) lambda;
+        return unchecked::applyAsLong;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link LongResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe function
+     * @return a safe version of lambda that returns its outcome as a {@code LongResult}
+     */
+    static DoubleFunction<LongResult> attempt(final ThrowingDoubleToLongFunction<? extends Exception> lambda) {
+        return value -> {
+            final long result;
+            try {
+                result = lambda.applyAsLong(value);
+            } catch (final Exception ex) {
+                return LongResult.failure(ex);
+            }
+            return LongResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe function
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe function that accepts a double and produces a long
+     */
+    static DoubleToLongFunction protectOrElse(
+            final ThrowingDoubleToLongFunction<? extends Exception> lambda, final long defaultValue) {
+        return value -> {
+            try {
+                return lambda.applyAsLong(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe function
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe function that accepts a double and produces a long
+     */
+    static DoubleToLongFunction protectOrElseGet(
+            final ThrowingDoubleToLongFunction<? extends Exception> lambda,
+            final ToLongFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.applyAsLong(value);
+            } catch (final Exception ex) {
+                return fallback.applyAsLong(ex);
             }
         };
     }
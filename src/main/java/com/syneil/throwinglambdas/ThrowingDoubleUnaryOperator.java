@@ -52,7 +52,120 @@ public interface ThrowingDoubleUnaryOperator<E extends Exception> {
             try {
                 return lambda.applyAsDouble(operand);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation that accepts a double and produces a double
+     */
+    static <X extends Exception> DoubleUnaryOperator protect(
+            final ThrowingDoubleUnaryOperator<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return operand -> {
+            try {
+                return lambda.applyAsDouble(operand);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation that accepts a double and produces a double
+     */
+    static DoubleUnaryOperator protectStackless(final ThrowingDoubleUnaryOperator<Exception> lambda) {
+        return operand -> {
+            try {
+                return lambda.applyAsDouble(operand);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation that accepts a double and produces a double
+     */
+    static DoubleUnaryOperator sneaky(final ThrowingDoubleUnaryOperator<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingDoubleUnaryOperator<RuntimeException> unchecked =
+                (ThrowingDoubleUnaryOperator<RuntimeException>) lambda;
+        return unchecked::applyAsDouble;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link DoubleResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe version of lambda that returns its outcome as a {@code DoubleResult}
+     */
+    static DoubleFunction<DoubleResult> attempt(final ThrowingDoubleUnaryOperator<? extends Exception> lambda) {
+        return operand -> {
+            final double result;
+            try {
+                result = lambda.applyAsDouble(operand);
+            } catch (final Exception ex) {
+                return DoubleResult.failure(ex);
+            }
+            return DoubleResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe operation that accepts a double and produces a double
+     */
+    static DoubleUnaryOperator protectOrElse(
+            final ThrowingDoubleUnaryOperator<? extends Exception> lambda, final double defaultValue) {
+        return operand -> {
+            try {
+                return lambda.applyAsDouble(operand);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe operation that accepts a double and produces a double
+     */
+    static DoubleUnaryOperator protectOrElseGet(
+            final ThrowingDoubleUnaryOperator<? extends Exception> lambda,
+            final ToDoubleFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return operand -> {
+            try {
+                return lambda.applyAsDouble(operand);
+            } catch (final Exception ex) {
+                return fallback.applyAsDouble(ex);
             }
         };
     }
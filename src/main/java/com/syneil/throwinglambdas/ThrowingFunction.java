@@ -24,7 +24,9 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -52,11 +54,333 @@ public interface ThrowingFunction<T, R, E extends Exception> {
             try {
                 return lambda.apply(t);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the first argument to the operation
+     * @param <R>           the type of the result of the operation
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation that accepts one argument and produces a result
+     */
+    static <T, R, X extends Exception> Function<T, R> protect(
+            final ThrowingFunction<? super T, ? extends R, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return t -> {
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the first argument to the operation
+     * @param <R>    the type of the result of the operation
+     * @return a safe operation that accepts one argument and produces a result
+     */
+    static <T, R> Function<T, R> protectStackless(final ThrowingFunction<? super T, ? extends R, Exception> lambda) {
+        return t -> {
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException}, and cancels the token. Once the token has been cancelled, by this or any other
+     * operation sharing it, the returned operation skips further elements by throwing the token's
+     * {@link LambdaException}, whose cause is the first failure, rather than invoking lambda. Unchecked
+     * exceptions are relayed unchanged, but likewise cancel the token.
+     *
+     * @param lambda the unsafe operation
+     * @param token  the token shared by the operations that stop together
+     * @param <T>    the type of the first argument to the operation
+     * @param <R>    the type of the result of the operation
+     * @return a safe operation that accepts one argument and produces a result
+     * @see CancellationToken
+     */
+    static <T, R> Function<T, R> protect(
+            final ThrowingFunction<? super T, ? extends R, ? extends Exception> lambda, final CancellationToken token) {
+        Objects.requireNonNull(token);
+        return t -> {
+            token.throwIfCancelled();
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                throw token.fail(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the first argument to the operation
+     * @param <R>    the type of the result of the operation
+     * @return a safe operation that accepts one argument and produces a result
+     */
+    static <T, R> Function<T, R> sneaky(final ThrowingFunction<? super T, ? extends R, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingFunction<? super T, ? extends R, RuntimeException> unchecked =
+                (ThrowingFunction<? super T, ? extends R, RuntimeException>) lambda;
+        return unchecked::apply;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link Result}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the first argument to the operation
+     * @param <R>    the type of the result of the operation
+     * @return a safe version of lambda that returns its outcome as a {@code Result}
+     */
+    static <T, R> Function<T, Result<R>> attempt(
+            final ThrowingFunction<? super T, ? extends R, ? extends Exception> lambda) {
+        return t -> {
+            final R result;
+            try {
+                result = lambda.apply(t);
+            } catch (final Exception ex) {
+                return Result.failure(ex);
+            }
+            return Result.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <T>          the type of the first argument to the operation
+     * @param <R>          the type of the result of the operation
+     * @return a safe operation that accepts one argument and produces a result
+     */
+    static <T, R> Function<T, R> protectOrElse(
+            final ThrowingFunction<? super T, ? extends R, ? extends Exception> lambda, final R defaultValue) {
+        return t -> {
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <T>      the type of the first argument to the operation
+     * @param <R>      the type of the result of the operation
+     * @return a safe operation that accepts one argument and produces a result
+     */
+    static <T, R> Function<T, R> protectOrElseGet(
+            final ThrowingFunction<? super T, ? extends R, ? extends Exception> lambda,
+            final Function<? super Exception, ? extends R> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                return fallback.apply(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that caches its results in a concurrent cache bounded as specified, so that lambda
+     * is invoked only on a miss. An exception thrown by lambda is rethrown unchanged and, if the specification caches
+     * failures, rethrown by later lookups of the same argument. Arguments are compared with {@code equals}.
+     *
+     * @param lambda the unsafe operation
+     * @param spec   the bound, expiry and failure caching of the cache
+     * @param <T>    the type of the first argument to the operation
+     * @param <R>    the type of the result of the operation
+     * @param <E>    the type of exception that lambda may throw
+     * @return a caching operation that accepts one argument and produces a result
+     * @see CacheSpec
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> memoize(
+            final ThrowingFunction<? super T, ? extends R, ? extends E> lambda, final CacheSpec spec) {
+        Objects.requireNonNull(lambda);
+        final BoundedCache cache = new BoundedCache(spec);
+        return t -> {
+            final int hash = BoundedCache.hash(t);
+            final BoundedCache.Entry cached = cache.find(t, hash);
+            if (cached != null) {
+                if (cached.failure != null) {
+                    throw Sneaky.<E>rethrow(cached.failure);
+                }
+                return (R) cached.value;
+            }
+            final R result;
+            try {
+                result = lambda.apply(t);
+            } catch (final Exception ex) {
+                cache.putFailure(t, hash, ex);
+                throw ex;
+            }
+            cache.put(t, hash, result, 0L);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a version of lambda that coalesces concurrent calls with equal arguments: while lambda is being applied
+     * to an argument, any other call with an equal argument waits for that invocation and receives its result, or its
+     * exception unchanged, rather than invoking lambda again. Nothing is retained once the invocation completes, so a
+     * later call invokes lambda afresh. Arguments are compared with {@code equals}.
+     * <p>
+     * Calls waiting for another invocation cannot be interrupted, and lambda must not call the returned function with
+     * an equal argument.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the first argument to the operation
+     * @param <R>    the type of the result of the operation
+     * @param <E>    the type of exception that lambda may throw
+     * @return an operation that accepts one argument and produces a result, sharing concurrent invocations
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> singleFlight(
+            final ThrowingFunction<? super T, ? extends R, ? extends E> lambda) {
+        Objects.requireNonNull(lambda);
+        final Object nullKey = new Object();
+        final ConcurrentMap<Object, CompletableFuture<R>> calls = new ConcurrentHashMap<>();
+        return t -> {
+            final Object key = t == null ? nullKey : t;
+            CompletableFuture<R> call = calls.get(key);
+            if (call == null) {
+                final CompletableFuture<R> created = new CompletableFuture<>();
+                call = calls.putIfAbsent(key, created);
+                if (call == null) {
+                    final R result;
+                    try {
+                        result = lambda.apply(t);
+                    } catch (final Throwable ex) {
+                        calls.remove(key, created);
+                        created.completeExceptionally(ex);
+                        throw ex;
+                    }
+                    calls.remove(key, created);
+                    created.complete(result);
+                    return result;
+                }
+            }
+            return Futures.<R, E>join(call);
+        };
+    }
+
+    /**
+     * Returns a version of lambda that is interrupted if it has not completed within the timeout, and then throws a
+     * {@link LambdaTimeoutException} with the exception lambda throws, if any, as its cause. Lambda runs on the calling
+     * thread, and every deadline is tracked by one shared timer thread, so any number of calls may be in progress. A
+     * lambda that does not respond to interrupts runs to completion, but still times out; its interrupt status is
+     * cleared before the timeout is thrown, unless the thread was interrupted already. An exception thrown within the
+     * timeout is rethrown unchanged.
+     *
+     * @param lambda  the unsafe operation
+     * @param timeout the time within which lambda must complete
+     * @param <T>     the type of the first argument to the operation
+     * @param <R>     the type of the result of the operation
+     * @param <E>     the type of exception that lambda may throw
+     * @return an operation that times out
+     * @throws IllegalArgumentException if timeout is not positive
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> withTimeout(
+            final ThrowingFunction<? super T, ? extends R, ? extends E> lambda, final Duration timeout) {
+        Objects.requireNonNull(lambda);
+        final long nanos = HashedWheelTimer.toNanos(timeout);
+        return t -> HashedWheelTimer.<R, E>call(() -> lambda.apply(t), timeout, nanos);
+    }
+
+    /**
+     * Returns a new future that, when the stage completes normally, is completed with the result of applying lambda to
+     * the stage's result, or exceptionally with the exception lambda throws, unchanged. If the stage completes
+     * exceptionally, so does the returned future, with the original exception rather than a
+     * {@link CompletionException} wrapping it. Lambda is applied by the thread that completes the stage, or by the
+     * caller if it has already completed.
+     *
+     * @param stage  the stage whose result is passed to lambda
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the first argument to the operation
+     * @param <R>    the type of the result of the operation
+     * @return a future completed with the outcome of lambda
+     */
+    static <T, R> CompletableFuture<R> thenApply(
+            final CompletionStage<? extends T> stage,
+            final ThrowingFunction<? super T, ? extends R, ? extends Exception> lambda) {
+        Objects.requireNonNull(lambda);
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        stage.whenComplete((value, failure) -> {
+            if (failure != null) {
+                future.completeExceptionally(Futures.unwrap(failure));
+                return;
+            }
+            final R result;
+            try {
+                result = lambda.apply(value);
+            } catch (final Throwable ex) {
+                future.completeExceptionally(ex);
+                return;
+            }
+            future.complete(result);
+        });
+        return future;
+    }
+
+    /**
+     * Applies lambda to each input on the executor, with at most maxInFlight applications in progress at once, and
+     * returns the results in the order of the inputs. The caller blocks while the limit is reached. Once any
+     * application throws an exception, no further inputs are submitted; when those already in flight have finished,
+     * the first exception is rethrown unchanged.
+     *
+     * @param inputs      the arguments to apply lambda to
+     * @param lambda      the unsafe operation
+     * @param maxInFlight the maximum number of applications of lambda in progress at once
+     * @param executor    the executor that applies lambda
+     * @param <T>         the type of the first argument to the operation
+     * @param <R>         the type of the result of the operation
+     * @param <E>         the type of exception that lambda may throw
+     * @return the results of lambda, in the order of the inputs
+     * @throws E if lambda throws it for any input
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     * @throws RejectedExecutionException if the executor rejects an application, once those in flight have finished
+     * @throws LambdaException with an {@link InterruptedException} as its cause if the calling thread is interrupted
+     *                         while waiting
+     */
+    static <T, R, E extends Exception> List<R> parallelMap(
+            final Collection<? extends T> inputs,
+            final ThrowingFunction<? super T, ? extends R, ? extends E> lambda,
+            final int maxInFlight,
+            final Executor executor) throws E {
+        return FanOut.parallelMap(inputs, lambda, maxInFlight, executor);
+    }
+
     /**
      * Returns a function that always returns its input argument.
      *
@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -52,11 +53,167 @@ public interface ThrowingIntBinaryOperator<E extends Exception> {
             try {
                 return lambda.applyAsInt(left, right);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation upon two ints producing an int
+     */
+    static <X extends Exception> IntBinaryOperator protect(
+            final ThrowingIntBinaryOperator<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return (left, right) -> {
+            try {
+                return lambda.applyAsInt(left, right);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation upon two ints producing an int
+     */
+    static IntBinaryOperator protectStackless(final ThrowingIntBinaryOperator<Exception> lambda) {
+        return (left, right) -> {
+            try {
+                return lambda.applyAsInt(left, right);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation upon two ints producing an int
+     */
+    static IntBinaryOperator sneaky(final ThrowingIntBinaryOperator<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingIntBinaryOperator<RuntimeException> unchecked =
+                (ThrowingIntBinaryOperator<RuntimeException>) lambda;
+        return unchecked::applyAsInt;
+    }
+
+    /**
+     * Applies lambda to the given operands, capturing its outcome, either its result or the exception it throws, as
+     * an {@link IntResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @param left   the first operand
+     * @param right  the second operand
+     * @return the outcome of applying lambda to the operands
+     */
+    static IntResult attempt(
+            final ThrowingIntBinaryOperator<? extends Exception> lambda, final int left, final int right) {
+        final int result;
+        try {
+            result = lambda.applyAsInt(left, right);
+        } catch (final Exception ex) {
+            return IntResult.failure(ex);
+        }
+        return IntResult.success(result);
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe operation upon two ints producing an int
+     */
+    static IntBinaryOperator protectOrElse(
+            final ThrowingIntBinaryOperator<? extends Exception> lambda, final int defaultValue) {
+        return (left, right) -> {
+            try {
+                return lambda.applyAsInt(left, right);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe operation upon two ints producing an int
+     */
+    static IntBinaryOperator protectOrElseGet(
+            final ThrowingIntBinaryOperator<? extends Exception> lambda,
+            final ToIntFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return (left, right) -> {
+            try {
+                return lambda.applyAsInt(left, right);
+            } catch (final Exception ex) {
+                return fallback.applyAsInt(ex);
+            }
+        };
+    }
+
+    /**
+     * Reduces the elements in parallel on the common fork/join pool, combining them with lambda, which must be
+     * associative, and starting each partial reduction from identity, which must be an identity for lambda. As soon as
+     * any application of lambda throws an exception, the other subtasks stop before their next application and the
+     * exception is rethrown unchanged. The elements are split into about eight subtasks per thread of the pool.
+     *
+     * @param elements the elements to reduce
+     * @param identity the identity value for lambda
+     * @param lambda   the unsafe operation
+     * @param <E>      the type of exception that lambda may throw
+     * @return the reduction of the elements, or identity if there are none
+     * @throws E if lambda throws it
+     */
+    static <E extends Exception> int parallelReduce(
+            final int[] elements, final int identity, final ThrowingIntBinaryOperator<? extends E> lambda) throws E {
+        return parallelReduce(elements, identity, lambda, ParallelReduction.defaultThreshold(elements.length));
+    }
+
+    /**
+     * Reduces the elements in parallel on the common fork/join pool, combining them with lambda, which must be
+     * associative, and starting each partial reduction from identity, which must be an identity for lambda. As soon as
+     * any application of lambda throws an exception, the other subtasks stop before their next application and the
+     * exception is rethrown unchanged. Ranges of at most threshold elements are reduced sequentially rather than split
+     * further.
+     *
+     * @param elements  the elements to reduce
+     * @param identity  the identity value for lambda
+     * @param lambda    the unsafe operation
+     * @param threshold the greatest number of elements reduced by a single subtask
+     * @param <E>       the type of exception that lambda may throw
+     * @return the reduction of the elements, or identity if there are none
+     * @throws E if lambda throws it
+     * @throws IllegalArgumentException if threshold is not positive
+     */
+    static <E extends Exception> int parallelReduce(
+            final int[] elements,
+            final int identity,
+            final ThrowingIntBinaryOperator<? extends E> lambda,
+            final int threshold) throws E {
+        return ParallelReduction.reduce(elements, identity, lambda, threshold);
+    }
+
     /**
      * Applies this operator to the given operands.
      *
@@ -52,11 +52,196 @@ public interface ThrowingIntPredicate<E extends Exception> {
             try {
                 return lambda.test(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe predicate
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe predicate of one int
+     */
+    static <X extends Exception> IntPredicate protect(
+            final ThrowingIntPredicate<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe predicate of one int
+     */
+    static IntPredicate protectStackless(final ThrowingIntPredicate<Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe predicate of one int
+     */
+    static IntPredicate sneaky(final ThrowingIntPredicate<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingIntPredicate<RuntimeException> unchecked = (ThrowingIntPredicate<RuntimeException>) lambda;
+        return unchecked::test;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link BooleanResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe version of lambda that returns its outcome as a {@code BooleanResult}
+     */
+    static IntFunction<BooleanResult> attempt(final ThrowingIntPredicate<? extends Exception> lambda) {
+        return value -> {
+            final boolean result;
+            try {
+                result = lambda.test(value);
+            } catch (final Exception ex) {
+                return BooleanResult.failure(ex);
+            }
+            return BooleanResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe predicate
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe predicate of one int
+     */
+    static IntPredicate protectOrElse(
+            final ThrowingIntPredicate<? extends Exception> lambda, final boolean defaultValue) {
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe predicate
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe predicate of one int
+     */
+    static IntPredicate protectOrElseGet(
+            final ThrowingIntPredicate<? extends Exception> lambda, final Predicate<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                return fallback.test(ex);
+            }
+        };
+    }
+
+    /**
+     * Evaluates lambda once for each int from lo to hi inclusive and returns a safe predicate that looks up the result
+     * in an array. The returned predicate throws an {@link IndexOutOfBoundsException} for any argument outside that
+     * domain. Any exception thrown by lambda is rethrown unchanged by this method instead.
+     *
+     * @param lambda the unsafe predicate
+     * @param lo     the least value of the domain
+     * @param hi     the greatest value of the domain
+     * @param <E>    the type of exception that lambda may throw
+     * @return a safe predicate over the domain, backed by a table of the results of lambda
+     * @throws E if lambda throws it for any value of the domain
+     * @throws IllegalArgumentException if hi is less than lo
+     */
+    static <E extends Exception> IntPredicate tabulate(
+            final ThrowingIntPredicate<? extends E> lambda, final int lo, final int hi) throws E {
+        return tabulate(lambda, lo, hi, false);
+    }
+
+    /**
+     * Evaluates lambda once for each int from lo to hi inclusive, optionally in parallel, and returns a safe predicate
+     * that looks up the result in an array. The returned predicate throws an {@link IndexOutOfBoundsException} for any
+     * argument outside that domain. Any exception thrown by lambda is rethrown unchanged by this method instead; in
+     * parallel, values not yet started are then skipped.
+     *
+     * @param lambda   the unsafe predicate
+     * @param lo       the least value of the domain
+     * @param hi       the greatest value of the domain
+     * @param parallel whether to evaluate lambda from the common fork/join pool
+     * @param <E>      the type of exception that lambda may throw
+     * @return a safe predicate over the domain, backed by a table of the results of lambda
+     * @throws E if lambda throws it for any value of the domain
+     * @throws IllegalArgumentException if hi is less than lo
+     */
+    static <E extends Exception> IntPredicate tabulate(
+            final ThrowingIntPredicate<? extends E> lambda, final int lo, final int hi, final boolean parallel)
+            throws E {
+        Objects.requireNonNull(lambda);
+        final boolean[] table = new boolean[Tabulation.length(lo, hi)];
+        Tabulation.<E>forEach(lo, hi, parallel, value -> table[value - lo] = lambda.test(value));
+        return value -> table[value - lo];
+    }
+
+    /**
+     * Returns a version of lambda that remembers its result for each value from lo to hi inclusive, in a pair of
+     * concurrent bitsets, so that a repeated test of a value in that domain costs two word reads. Concurrent first
+     * tests of the same value may each invoke lambda. Values outside the domain are passed to lambda on every call. An
+     * exception thrown by lambda is rethrown unchanged and not remembered, so the next test of the value tries again.
+     *
+     * @param lambda the unsafe predicate
+     * @param lo     the least value of the domain
+     * @param hi     the greatest value of the domain
+     * @param <E>    the type of exception that lambda may throw
+     * @return a memoizing predicate of one int
+     * @throws IllegalArgumentException if hi is less than lo or the domain is too large
+     */
+    static <E extends Exception> ThrowingIntPredicate<E> memoize(
+            final ThrowingIntPredicate<? extends E> lambda, final int lo, final int hi) {
+        Objects.requireNonNull(lambda);
+        final PredicateBits bits = new PredicateBits(lo, hi);
+        return value -> {
+            if (value < lo || value > hi) {
+                return lambda.test(value);
+            }
+            final long index = (long) value - lo;
+            final int known = bits.get(index);
+            if (known != PredicateBits.UNKNOWN) {
+                return known != 0;
+            }
+            final boolean result = lambda.test(value);
+            bits.set(index, result);
+            return result;
+        };
+    }
+
     /**
      * Evaluates this predicate on the given argument.
      *
@@ -52,11 +52,203 @@ public interface ThrowingIntUnaryOperator<E extends Exception> {
             try {
                 return lambda.applyAsInt(operand);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation that accepts an int and produces an int
+     */
+    static <X extends Exception> IntUnaryOperator protect(
+            final ThrowingIntUnaryOperator<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return operand -> {
+            try {
+                return lambda.applyAsInt(operand);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation that accepts an int and produces an int
+     */
+    static IntUnaryOperator protectStackless(final ThrowingIntUnaryOperator<Exception> lambda) {
+        return operand -> {
+            try {
+                return lambda.applyAsInt(operand);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation that accepts an int and produces an int
+     */
+    static IntUnaryOperator sneaky(final ThrowingIntUnaryOperator<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingIntUnaryOperator<RuntimeException> unchecked =
+                (ThrowingIntUnaryOperator<RuntimeException>) lambda;
+        return unchecked::applyAsInt;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as an
+     * {@link IntResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe version of lambda that returns its outcome as an {@code IntResult}
+     */
+    static IntFunction<IntResult> attempt(final ThrowingIntUnaryOperator<? extends Exception> lambda) {
+        return operand -> {
+            final int result;
+            try {
+                result = lambda.applyAsInt(operand);
+            } catch (final Exception ex) {
+                return IntResult.failure(ex);
+            }
+            return IntResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe operation that accepts an int and produces an int
+     */
+    static IntUnaryOperator protectOrElse(
+            final ThrowingIntUnaryOperator<? extends Exception> lambda, final int defaultValue) {
+        return operand -> {
+            try {
+                return lambda.applyAsInt(operand);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe operation that accepts an int and produces an int
+     */
+    static IntUnaryOperator protectOrElseGet(
+            final ThrowingIntUnaryOperator<? extends Exception> lambda,
+            final ToIntFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return operand -> {
+            try {
+                return lambda.applyAsInt(operand);
+            } catch (final Exception ex) {
+                return fallback.applyAsInt(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that caches its results in a concurrent cache bounded as specified, so that lambda is
+     * invoked only on a miss. An exception thrown by lambda is rethrown unchanged and, if the specification caches
+     * failures, rethrown by later lookups of the same argument. Neither the argument nor the result is boxed, and a hit
+     * allocates nothing.
+     *
+     * @param lambda the unsafe operation
+     * @param spec   the bound, expiry and failure caching of the cache
+     * @param <E>    the type of exception that lambda may throw
+     * @return a caching operation that accepts an int and produces an int
+     * @see CacheSpec
+     */
+    static <E extends Exception> ThrowingIntUnaryOperator<E> memoize(
+            final ThrowingIntUnaryOperator<? extends E> lambda, final CacheSpec spec) {
+        Objects.requireNonNull(lambda);
+        final BoundedCache cache = new BoundedCache(spec);
+        return operand -> {
+            final int hash = BoundedCache.hash(operand);
+            final BoundedCache.Entry cached = cache.find(operand, hash);
+            if (cached != null) {
+                if (cached.failure != null) {
+                    throw Sneaky.<E>rethrow(cached.failure);
+                }
+                return (int) cached.bits;
+            }
+            final int result;
+            try {
+                result = lambda.applyAsInt(operand);
+            } catch (final Exception ex) {
+                cache.putFailure(operand, hash, ex);
+                throw ex;
+            }
+            cache.put(operand, hash, null, result);
+            return result;
+        };
+    }
+
+    /**
+     * Evaluates lambda once for each int from lo to hi inclusive and returns a safe operation that looks up the result
+     * in an array. The returned operation throws an {@link IndexOutOfBoundsException} for any argument outside that
+     * domain. Any exception thrown by lambda is rethrown unchanged by this method instead.
+     *
+     * @param lambda the unsafe operation
+     * @param lo     the least value of the domain
+     * @param hi     the greatest value of the domain
+     * @param <E>    the type of exception that lambda may throw
+     * @return a safe operation over the domain, backed by a table of the results of lambda
+     * @throws E if lambda throws it for any value of the domain
+     * @throws IllegalArgumentException if hi is less than lo
+     */
+    static <E extends Exception> IntUnaryOperator tabulate(
+            final ThrowingIntUnaryOperator<? extends E> lambda, final int lo, final int hi) throws E {
+        return tabulate(lambda, lo, hi, false);
+    }
+
+    /**
+     * Evaluates lambda once for each int from lo to hi inclusive, optionally in parallel, and returns a safe operation
+     * that looks up the result in an array. The returned operation throws an {@link IndexOutOfBoundsException} for any
+     * argument outside that domain. Any exception thrown by lambda is rethrown unchanged by this method instead; in
+     * parallel, values not yet started are then skipped.
+     *
+     * @param lambda   the unsafe operation
+     * @param lo       the least value of the domain
+     * @param hi       the greatest value of the domain
+     * @param parallel whether to evaluate lambda from the common fork/join pool
+     * @param <E>      the type of exception that lambda may throw
+     * @return a safe operation over the domain, backed by a table of the results of lambda
+     * @throws E if lambda throws it for any value of the domain
+     * @throws IllegalArgumentException if hi is less than lo
+     */
+    static <E extends Exception> IntUnaryOperator tabulate(
+            final ThrowingIntUnaryOperator<? extends E> lambda, final int lo, final int hi, final boolean parallel)
+            throws E {
+        Objects.requireNonNull(lambda);
+        final int[] table = new int[Tabulation.length(lo, hi)];
+        Tabulation.<E>forEach(lo, hi, parallel, operand -> table[operand - lo] = lambda.applyAsInt(operand));
+        return operand -> table[operand - lo];
+    }
+
     /**
      * Returns a unary operator that always returns its input argument.
      *
@@ -53,7 +53,81 @@ public interface ThrowingLongConsumer<E extends Exception> {
             try {
                 lambda.accept(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation that accepts one long and returns no result
+     */
+    static <X extends Exception> LongConsumer protect(
+            final ThrowingLongConsumer<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                lambda.accept(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation that accepts one long and returns no result
+     */
+    static LongConsumer protectStackless(final ThrowingLongConsumer<Exception> lambda) {
+        return value -> {
+            try {
+                lambda.accept(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation that accepts one long and returns no result
+     */
+    static LongConsumer sneaky(final ThrowingLongConsumer<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingLongConsumer<RuntimeException> unchecked = (ThrowingLongConsumer<RuntimeException>) lambda;
+        return unchecked::accept;
+    }
+
+    /**
+     * Returns a safe version of lambda that passes any exception it throws to the handler and then returns normally,
+     * so that processing continues. No {@link LambdaException} is created on failure. A {@link FailureCollector} is
+     * a suitable handler for use from a parallel stream.
+     *
+     * @param lambda  the unsafe operation
+     * @param handler the handler of any exception thrown by lambda
+     * @return a safe operation that accepts one long and returns no result
+     */
+    static LongConsumer protect(
+            final ThrowingLongConsumer<? extends Exception> lambda, final Consumer<? super Exception> handler) {
+        Objects.requireNonNull(handler);
+        return value -> {
+            try {
+                lambda.accept(value);
+            } catch (final Exception ex) {
+                handler.accept(ex);
             }
         };
     }
@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -52,11 +53,169 @@ public interface ThrowingLongFunction<R, E extends Exception> {
             try {
                 return lambda.apply(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe function
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <R>           the type of the result of the function
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe function that accepts a long and produces a result
+     */
+    static <R, X extends Exception> LongFunction<R> protect(
+            final ThrowingLongFunction<? extends R, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.apply(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe function
+     * @param <R>    the type of the result of the function
+     * @return a safe function that accepts a long and produces a result
+     */
+    static <R> LongFunction<R> protectStackless(final ThrowingLongFunction<? extends R, Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.apply(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe function
+     * @param <R>    the type of the result of the function
+     * @return a safe function that accepts a long and produces a result
+     */
+    static <R> LongFunction<R> sneaky(final ThrowingLongFunction<? extends R, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingLongFunction<? extends R, RuntimeException> unchecked =
+                (ThrowingLongFunction<? extends R, RuntimeException>) lambda;
+        return unchecked::apply;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link Result}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe function
+     * @param <R>    the type of the result of the function
+     * @return a safe version of lambda that returns its outcome as a {@code Result}
+     */
+    static <R> LongFunction<Result<R>> attempt(final ThrowingLongFunction<? extends R, ? extends Exception> lambda) {
+        return value -> {
+            final R result;
+            try {
+                result = lambda.apply(value);
+            } catch (final Exception ex) {
+                return Result.failure(ex);
+            }
+            return Result.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe function
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <R>          the type of the result of the function
+     * @return a safe function that accepts a long and produces a result
+     */
+    static <R> LongFunction<R> protectOrElse(
+            final ThrowingLongFunction<? extends R, ? extends Exception> lambda, final R defaultValue) {
+        return value -> {
+            try {
+                return lambda.apply(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe function
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <R>      the type of the result of the function
+     * @return a safe function that accepts a long and produces a result
+     */
+    static <R> LongFunction<R> protectOrElseGet(
+            final ThrowingLongFunction<? extends R, ? extends Exception> lambda,
+            final Function<? super Exception, ? extends R> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.apply(value);
+            } catch (final Exception ex) {
+                return fallback.apply(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that caches its results in a concurrent cache bounded as specified, so that lambda is
+     * invoked only on a miss. An exception thrown by lambda is rethrown unchanged and, if the specification caches
+     * failures, rethrown by later lookups of the same argument. Neither the argument nor the result is boxed, and a hit
+     * allocates nothing.
+     *
+     * @param lambda the unsafe function
+     * @param spec   the bound, expiry and failure caching of the cache
+     * @param <R>    the type of the result of the function
+     * @param <E>    the type of exception that lambda may throw
+     * @return a caching function that accepts a long and produces a result
+     * @see CacheSpec
+     */
+    @SuppressWarnings("unchecked")
+    static <R, E extends Exception> ThrowingLongFunction<R, E> memoize(
+            final ThrowingLongFunction<? extends R, ? extends E> lambda, final CacheSpec spec) {
+        Objects.requireNonNull(lambda);
+        final BoundedCache cache = new BoundedCache(spec);
+        return value -> {
+            final int hash = BoundedCache.hash(value);
+            final BoundedCache.Entry cached = cache.find(value, hash);
+            if (cached != null) {
+                if (cached.failure != null) {
+                    throw Sneaky.<E>rethrow(cached.failure);
+                }
+                return (R) cached.value;
+            }
+            final R result;
+            try {
+                result = lambda.apply(value);
+            } catch (final Exception ex) {
+                cache.putFailure(value, hash, ex);
+                throw ex;
+            }
+            cache.put(value, hash, result, 0L);
+            return result;
+        };
+    }
+
     /**
      * Applies this function to the given argument.
      *
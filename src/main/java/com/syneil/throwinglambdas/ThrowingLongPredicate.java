@@ -52,11 +52,154 @@ public interface ThrowingLongPredicate<E extends Exception> {
             try {
                 return lambda.test(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe predicate
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe predicate of one long
+     */
+    static <X extends Exception> LongPredicate protect(
+            final ThrowingLongPredicate<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe predicate of one long
+     */
+    static LongPredicate protectStackless(final ThrowingLongPredicate<Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe predicate of one long
+     */
+    static LongPredicate sneaky(final ThrowingLongPredicate<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingLongPredicate<RuntimeException> unchecked = (ThrowingLongPredicate<RuntimeException>) lambda;
+        return unchecked::test;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link BooleanResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe predicate
+     * @return a safe version of lambda that returns its outcome as a {@code BooleanResult}
+     */
+    static LongFunction<BooleanResult> attempt(final ThrowingLongPredicate<? extends Exception> lambda) {
+        return value -> {
+            final boolean result;
+            try {
+                result = lambda.test(value);
+            } catch (final Exception ex) {
+                return BooleanResult.failure(ex);
+            }
+            return BooleanResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe predicate
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe predicate of one long
+     */
+    static LongPredicate protectOrElse(
+            final ThrowingLongPredicate<? extends Exception> lambda, final boolean defaultValue) {
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe predicate
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe predicate of one long
+     */
+    static LongPredicate protectOrElseGet(
+            final ThrowingLongPredicate<? extends Exception> lambda, final Predicate<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.test(value);
+            } catch (final Exception ex) {
+                return fallback.test(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that remembers its result for each value from lo to hi inclusive, in a pair of
+     * concurrent bitsets, so that a repeated test of a value in that domain costs two word reads. Concurrent first
+     * tests of the same value may each invoke lambda. Values outside the domain are passed to lambda on every call. An
+     * exception thrown by lambda is rethrown unchanged and not remembered, so the next test of the value tries again.
+     *
+     * @param lambda the unsafe predicate
+     * @param lo     the least value of the domain
+     * @param hi     the greatest value of the domain
+     * @param <E>    the type of exception that lambda may throw
+     * @return a memoizing predicate of one long
+     * @throws IllegalArgumentException if hi is less than lo or the domain is too large
+     */
+    static <E extends Exception> ThrowingLongPredicate<E> memoize(
+            final ThrowingLongPredicate<? extends E> lambda, final long lo, final long hi) {
+        Objects.requireNonNull(lambda);
+        final PredicateBits bits = new PredicateBits(lo, hi);
+        return value -> {
+            if (value < lo || value > hi) {
+                return lambda.test(value);
+            }
+            final long index = value - lo;
+            final int known = bits.get(index);
+            if (known != PredicateBits.UNKNOWN) {
+                return known != 0;
+            }
+            final boolean result = lambda.test(value);
+            bits.set(index, result);
+            return result;
+        };
+    }
+
     /**
      * Evaluates this predicate on the given argument.
      *
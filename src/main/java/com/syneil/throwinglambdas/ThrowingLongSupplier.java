@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -52,11 +53,150 @@ public interface ThrowingLongSupplier<E extends Exception> {
             try {
                 return lambda.getAsLong();
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe supplier
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe supplier of longs
+     */
+    static <X extends Exception> LongSupplier protect(
+            final ThrowingLongSupplier<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return () -> {
+            try {
+                return lambda.getAsLong();
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe supplier
+     * @return a safe supplier of longs
+     */
+    static LongSupplier protectStackless(final ThrowingLongSupplier<Exception> lambda) {
+        return () -> {
+            try {
+                return lambda.getAsLong();
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe supplier
+     * @return a safe supplier of longs
+     */
+    static LongSupplier sneaky(final ThrowingLongSupplier<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingLongSupplier<RuntimeException> unchecked = (ThrowingLongSupplier<RuntimeException>) lambda;
+        return unchecked::getAsLong;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link LongResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe supplier
+     * @return a safe version of lambda that returns its outcome as a {@code LongResult}
+     */
+    static Supplier<LongResult> attempt(final ThrowingLongSupplier<? extends Exception> lambda) {
+        return () -> {
+            final long result;
+            try {
+                result = lambda.getAsLong();
+            } catch (final Exception ex) {
+                return LongResult.failure(ex);
+            }
+            return LongResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe supplier
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe supplier of longs
+     */
+    static LongSupplier protectOrElse(final ThrowingLongSupplier<? extends Exception> lambda, final long defaultValue) {
+        return () -> {
+            try {
+                return lambda.getAsLong();
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe supplier
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe supplier of longs
+     */
+    static LongSupplier protectOrElseGet(
+            final ThrowingLongSupplier<? extends Exception> lambda, final ToLongFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return () -> {
+            try {
+                return lambda.getAsLong();
+            } catch (final Exception ex) {
+                return fallback.applyAsLong(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that invokes it at most once, on the first call, and returns the same result to every
+     * later call. Concurrent first calls wait for a single invocation, and later calls read the result without locking.
+     * If lambda throws an exception, it is rethrown unchanged and the next call invokes lambda again.
+     *
+     * @param lambda the unsafe supplier
+     * @param <E>    the type of exception that lambda may throw
+     * @return a supplier that computes its result once
+     */
+    static <E extends Exception> ThrowingLongSupplier<E> memoize(final ThrowingLongSupplier<? extends E> lambda) {
+        return memoize(lambda, false);
+    }
+
+    /**
+     * Returns a version of lambda that invokes it at most once, on the first call, and returns the same result to every
+     * later call. Concurrent first calls wait for a single invocation, and later calls read the result without locking.
+     * If lambda throws an exception, it is rethrown unchanged; if cacheFailures is true, the same exception is rethrown
+     * by every later call, otherwise the next call invokes lambda again.
+     *
+     * @param lambda        the unsafe supplier
+     * @param cacheFailures whether an exception thrown by lambda is remembered in place of a result
+     * @param <E>           the type of exception that lambda may throw
+     * @return a supplier that computes its outcome once
+     */
+    static <E extends Exception> ThrowingLongSupplier<E> memoize(
+            final ThrowingLongSupplier<? extends E> lambda, final boolean cacheFailures) {
+        return new Memoization.MemoizedLongSupplier<>(lambda, cacheFailures);
+    }
+
     /**
      * Gets a result.
      *
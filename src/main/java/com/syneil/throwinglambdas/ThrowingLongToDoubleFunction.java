@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -51,11 +52,161 @@ public interface ThrowingLongToDoubleFunction<E extends Exception> {
             try {
                 return lambda.applyAsDouble(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe function
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe function that accepts a long and produces a double
+     */
+    static <X extends Exception> LongToDoubleFunction protect(
+            final ThrowingLongToDoubleFunction<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.applyAsDouble(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe function
+     * @return a safe function that accepts a long and produces a double
+     */
+    static LongToDoubleFunction protectStackless(final ThrowingLongToDoubleFunction<Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.applyAsDouble(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe function
+     * @return a safe function that accepts a long and produces a double
+     */
+    static LongToDoubleFunction sneaky(final ThrowingLongToDoubleFunction<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingLongToDoubleFunction<RuntimeException> unchecked =
+                (ThrowingLongToDoubleFunction<RuntimeException>) lambda;
+        return unchecked::applyAsDouble;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link DoubleResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe function
+     * @return a safe version of lambda that returns its outcome as a {@code DoubleResult}
+     */
+    static LongFunction<DoubleResult> attempt(final ThrowingLongToDoubleFunction<? extends Exception> lambda) {
+        return value -> {
+            final double result;
+            try {
+                result = lambda.applyAsDouble(value);
+            } catch (final Exception ex) {
+                return DoubleResult.failure(ex);
+            }
+            return DoubleResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe function
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe function that accepts a long and produces a double
+     */
+    static LongToDoubleFunction protectOrElse(
+            final ThrowingLongToDoubleFunction<? extends Exception> lambda, final double defaultValue) {
+        return value -> {
+            try {
+                return lambda.applyAsDouble(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe function
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe function that accepts a long and produces a double
+     */
+    static LongToDoubleFunction protectOrElseGet(
+            final ThrowingLongToDoubleFunction<? extends Exception> lambda,
+            final ToDoubleFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.applyAsDouble(value);
+            } catch (final Exception ex) {
+                return fallback.applyAsDouble(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that caches its results in a concurrent cache bounded as specified, so that lambda is
+     * invoked only on a miss. An exception thrown by lambda is rethrown unchanged and, if the specification caches
+     * failures, rethrown by later lookups of the same argument. Neither the argument nor the result is boxed, and a hit
+     * allocates nothing.
+     *
+     * @param lambda the unsafe function
+     * @param spec   the bound, expiry and failure caching of the cache
+     * @param <E>    the type of exception that lambda may throw
+     * @return a caching function that accepts a long and produces a double
+     * @see CacheSpec
+     */
+    static <E extends Exception> ThrowingLongToDoubleFunction<E> memoize(
+            final ThrowingLongToDoubleFunction<? extends E> lambda, final CacheSpec spec) {
+        Objects.requireNonNull(lambda);
+        final BoundedCache cache = new BoundedCache(spec);
+        return value -> {
+            final int hash = BoundedCache.hash(value);
+            final BoundedCache.Entry cached = cache.find(value, hash);
+            if (cached != null) {
+                if (cached.failure != null) {
+                    throw Sneaky.<E>rethrow(cached.failure);
+                }
+                return Double.longBitsToDouble(cached.bits);
+            }
+            final double result;
+            try {
+                result = lambda.applyAsDouble(value);
+            } catch (final Exception ex) {
+                cache.putFailure(value, hash, ex);
+                throw ex;
+            }
+            cache.put(value, hash, null, Double.doubleToRawLongBits(result));
+            return result;
+        };
+    }
+
     /**
      * Applies this function to the given argument.
      *
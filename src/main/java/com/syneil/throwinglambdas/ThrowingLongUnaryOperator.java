@@ -52,11 +52,161 @@ public interface ThrowingLongUnaryOperator<E extends Exception> {
             try {
                 return lambda.applyAsLong(operand);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation on a single long producing a long
+     */
+    static <X extends Exception> LongUnaryOperator protect(
+            final ThrowingLongUnaryOperator<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return operand -> {
+            try {
+                return lambda.applyAsLong(operand);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation on a single long producing a long
+     */
+    static LongUnaryOperator protectStackless(final ThrowingLongUnaryOperator<Exception> lambda) {
+        return operand -> {
+            try {
+                return lambda.applyAsLong(operand);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation on a single long producing a long
+     */
+    static LongUnaryOperator sneaky(final ThrowingLongUnaryOperator<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingLongUnaryOperator<RuntimeException> unchecked =
+                (ThrowingLongUnaryOperator<RuntimeException>) lambda;
+        return unchecked::applyAsLong;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link LongResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe version of lambda that returns its outcome as a {@code LongResult}
+     */
+    static LongFunction<LongResult> attempt(final ThrowingLongUnaryOperator<? extends Exception> lambda) {
+        return operand -> {
+            final long result;
+            try {
+                result = lambda.applyAsLong(operand);
+            } catch (final Exception ex) {
+                return LongResult.failure(ex);
+            }
+            return LongResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @return a safe operation on a single long producing a long
+     */
+    static LongUnaryOperator protectOrElse(
+            final ThrowingLongUnaryOperator<? extends Exception> lambda, final long defaultValue) {
+        return operand -> {
+            try {
+                return lambda.applyAsLong(operand);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @return a safe operation on a single long producing a long
+     */
+    static LongUnaryOperator protectOrElseGet(
+            final ThrowingLongUnaryOperator<? extends Exception> lambda,
+            final ToLongFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return operand -> {
+            try {
+                return lambda.applyAsLong(operand);
+            } catch (final Exception ex) {
+                return fallback.applyAsLong(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that caches its results in a concurrent cache bounded as specified, so that lambda is
+     * invoked only on a miss. An exception thrown by lambda is rethrown unchanged and, if the specification caches
+     * failures, rethrown by later lookups of the same argument. Neither the argument nor the result is boxed, and a hit
+     * allocates nothing.
+     *
+     * @param lambda the unsafe operation
+     * @param spec   the bound, expiry and failure caching of the cache
+     * @param <E>    the type of exception that lambda may throw
+     * @return a caching operation that accepts a long and produces a long
+     * @see CacheSpec
+     */
+    static <E extends Exception> ThrowingLongUnaryOperator<E> memoize(
+            final ThrowingLongUnaryOperator<? extends E> lambda, final CacheSpec spec) {
+        Objects.requireNonNull(lambda);
+        final BoundedCache cache = new BoundedCache(spec);
+        return operand -> {
+            final int hash = BoundedCache.hash(operand);
+            final BoundedCache.Entry cached = cache.find(operand, hash);
+            if (cached != null) {
+                if (cached.failure != null) {
+                    throw Sneaky.<E>rethrow(cached.failure);
+                }
+                return cached.bits;
+            }
+            final long result;
+            try {
+                result = lambda.applyAsLong(operand);
+            } catch (final Exception ex) {
+                cache.putFailure(operand, hash, ex);
+                throw ex;
+            }
+            cache.put(operand, hash, null, result);
+            return result;
+        };
+    }
+
     /**
      * Returns a unary operator that always returns its input argument.
      *
@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -54,7 +55,87 @@ public interface ThrowingObjIntConsumer<T, E extends Exception> {
             try {
                 lambda.accept(t, value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the object argument to the operation
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation that accepts an object and an int and returns no result
+     */
+    static <T, X extends Exception> ObjIntConsumer<T> protect(
+            final ThrowingObjIntConsumer<? super T, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return (t, value) -> {
+            try {
+                lambda.accept(t, value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the object argument to the operation
+     * @return a safe operation that accepts an object and an int and returns no result
+     */
+    static <T> ObjIntConsumer<T> protectStackless(final ThrowingObjIntConsumer<? super T, Exception> lambda) {
+        return (t, value) -> {
+            try {
+                lambda.accept(t, value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the object argument to the operation
+     * @return a safe operation that accepts an object and an int and returns no result
+     */
+    static <T> ObjIntConsumer<T> sneaky(final ThrowingObjIntConsumer<? super T, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingObjIntConsumer<? super T, RuntimeException> unchecked =
+                (ThrowingObjIntConsumer<? super T, RuntimeException>) lambda;
+        return unchecked::accept;
+    }
+
+    /**
+     * Returns a safe version of lambda that passes any exception it throws to the handler and then returns normally,
+     * so that processing continues. No {@link LambdaException} is created on failure. A {@link FailureCollector} is
+     * a suitable handler for use from a parallel stream.
+     *
+     * @param lambda  the unsafe operation
+     * @param handler the handler of any exception thrown by lambda
+     * @param <T>     the type of the object argument to the operation
+     * @return a safe operation that accepts an object and an int and returns no result
+     */
+    static <T> ObjIntConsumer<T> protect(
+            final ThrowingObjIntConsumer<? super T, ? extends Exception> lambda,
+            final Consumer<? super Exception> handler) {
+        Objects.requireNonNull(handler);
+        return (t, value) -> {
+            try {
+                lambda.accept(t, value);
+            } catch (final Exception ex) {
+                handler.accept(ex);
             }
         };
     }
@@ -51,7 +51,152 @@ public interface ThrowingPredicate<T, E extends Exception> {
             try {
                 return lambda.test(t);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe predicate
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the input to the predicate
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe predicate of one argument
+     */
+    static <T, X extends Exception> Predicate<T> protect(
+            final ThrowingPredicate<? super T, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return t -> {
+            try {
+                return lambda.test(t);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe predicate
+     * @param <T>    the type of the input to the predicate
+     * @return a safe predicate of one argument
+     */
+    static <T> Predicate<T> protectStackless(final ThrowingPredicate<? super T, Exception> lambda) {
+        return t -> {
+            try {
+                return lambda.test(t);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException}, and cancels the token. Once the token has been cancelled, by this or any other
+     * operation sharing it, the returned operation skips further elements by throwing the token's
+     * {@link LambdaException}, whose cause is the first failure, rather than invoking lambda. Unchecked
+     * exceptions are relayed unchanged, but likewise cancel the token.
+     *
+     * @param lambda the unsafe predicate
+     * @param token  the token shared by the operations that stop together
+     * @param <T>    the type of the input to the predicate
+     * @return a safe predicate of one argument
+     * @see CancellationToken
+     */
+    static <T> Predicate<T> protect(
+            final ThrowingPredicate<? super T, ? extends Exception> lambda, final CancellationToken token) {
+        Objects.requireNonNull(token);
+        return t -> {
+            token.throwIfCancelled();
+            try {
+                return lambda.test(t);
+            } catch (final Exception ex) {
+                throw token.fail(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe predicate
+     * @param <T>    the type of the input to the predicate
+     * @return a safe predicate of one argument
+     */
+    static <T> Predicate<T> sneaky(final ThrowingPredicate<? super T, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingPredicate<? super T, RuntimeException> unchecked =
+                (ThrowingPredicate<? super T, RuntimeException>) lambda;
+        return unchecked::test;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link BooleanResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe predicate
+     * @param <T>    the type of the input to the predicate
+     * @return a safe version of lambda that returns its outcome as a {@code BooleanResult}
+     */
+    static <T> Function<T, BooleanResult> attempt(final ThrowingPredicate<? super T, ? extends Exception> lambda) {
+        return t -> {
+            final boolean result;
+            try {
+                result = lambda.test(t);
+            } catch (final Exception ex) {
+                return BooleanResult.failure(ex);
+            }
+            return BooleanResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe predicate
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <T>          the type of the input to the predicate
+     * @return a safe predicate of one argument
+     */
+    static <T> Predicate<T> protectOrElse(
+            final ThrowingPredicate<? super T, ? extends Exception> lambda, final boolean defaultValue) {
+        return t -> {
+            try {
+                return lambda.test(t);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe predicate
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <T>      the type of the input to the predicate
+     * @return a safe predicate of one argument
+     */
+    static <T> Predicate<T> protectOrElseGet(
+            final ThrowingPredicate<? super T, ? extends Exception> lambda,
+            final Predicate<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                return lambda.test(t);
+            } catch (final Exception ex) {
+                return fallback.test(ex);
             }
         };
     }
@@ -25,7 +25,10 @@
 
 package com.syneil.throwinglambdas;
 
+import java.time.*;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * The {@code ThrowingRunnable} interface should be implemented by any class whose instances are intended to be
@@ -60,11 +63,156 @@ public interface ThrowingRunnable<E extends Exception> {
             try {
                 lambda.run();
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation that accepts no parameters and returns no result; can be used with {@link Thread#run()}
+     */
+    static <X extends Exception> Runnable protect(
+            final ThrowingRunnable<? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return () -> {
+            try {
+                lambda.run();
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation that accepts no parameters and returns no result; can be used with {@link Thread#run()}
+     */
+    static Runnable protectStackless(final ThrowingRunnable<Exception> lambda) {
+        return () -> {
+            try {
+                lambda.run();
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @return a safe operation that accepts no parameters and returns no result; can be used with {@link Thread#run()}
+     */
+    static Runnable sneaky(final ThrowingRunnable<? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingRunnable<RuntimeException> unchecked = (ThrowingRunnable<RuntimeException>) lambda;
+        return unchecked::run;
+    }
+
+    /**
+     * Returns a safe version of lambda that passes any exception it throws to the handler and then returns normally,
+     * so that processing continues. No {@link LambdaException} is created on failure. A {@link FailureCollector} is
+     * a suitable handler for use from a parallel stream.
+     *
+     * @param lambda  the unsafe operation
+     * @param handler the handler of any exception thrown by lambda
+     * @return a safe operation that accepts no parameters and returns no result; can be used with {@link Thread#run()}
+     */
+    static Runnable protect(
+            final ThrowingRunnable<? extends Exception> lambda, final Consumer<? super Exception> handler) {
+        Objects.requireNonNull(handler);
+        return () -> {
+            try {
+                lambda.run();
+            } catch (final Exception ex) {
+                handler.accept(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that is interrupted if it has not completed within the timeout, and then throws a
+     * {@link LambdaTimeoutException} with the exception lambda throws, if any, as its cause. Lambda runs on the calling
+     * thread, and every deadline is tracked by one shared timer thread, so any number of calls may be in progress. A
+     * lambda that does not respond to interrupts runs to completion, but still times out; its interrupt status is
+     * cleared before the timeout is thrown, unless the thread was interrupted already. An exception thrown within the
+     * timeout is rethrown unchanged.
+     *
+     * @param lambda  the unsafe operation
+     * @param timeout the time within which lambda must complete
+     * @param <E>     the type of exception that lambda may throw
+     * @return an operation that times out
+     * @throws IllegalArgumentException if timeout is not positive
+     */
+    static <E extends Exception> ThrowingRunnable<E> withTimeout(
+            final ThrowingRunnable<? extends E> lambda, final Duration timeout) {
+        Objects.requireNonNull(lambda);
+        final long nanos = HashedWheelTimer.toNanos(timeout);
+        return () -> HashedWheelTimer.<Void, E>call(() -> {
+            lambda.run();
+            return null;
+        }, timeout, nanos);
+    }
+
+    /**
+     * Returns a new future that is completed by a task run on the executor once lambda returns, or exceptionally with
+     * the exception it throws, unchanged. Unlike {@link CompletableFuture#runAsync} with {@link #protect}, no
+     * {@link LambdaException} is created, so {@link CompletableFuture#exceptionally} receives the original exception.
+     *
+     * @param lambda   the unsafe operation
+     * @param executor the executor that runs lambda
+     * @return a future completed with the outcome of lambda
+     * @throws RejectedExecutionException if the executor rejects the task
+     */
+    static CompletableFuture<Void> runAsync(
+            final ThrowingRunnable<? extends Exception> lambda, final Executor executor) {
+        Objects.requireNonNull(lambda);
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                lambda.run();
+            } catch (final Throwable ex) {
+                future.completeExceptionally(ex);
+                return;
+            }
+            future.complete(null);
+        });
+        return future;
+    }
+
+    /**
+     * Runs every operation concurrently and returns once all have finished. On Java 21 and later each operation runs on
+     * a virtual thread of its own; otherwise they share a pool of at most four threads per available processor, a bound
+     * set by the system property {@code com.syneil.throwinglambdas.fanOut.threads}. As soon as any operation throws an
+     * exception, the others are cancelled, interrupting those already running, and the exception is rethrown
+     * unchanged.
+     *
+     * @param tasks the unsafe operations
+     * @param <E>   the type of exception that the operations may throw
+     * @throws E if any operation throws it
+     * @throws LambdaException with an {@link InterruptedException} as its cause if the calling thread is interrupted
+     *                         while waiting, in which case the operations are cancelled
+     * @throws NullPointerException if tasks or any of its elements is null
+     */
+    static <E extends Exception> void runAll(final Collection<? extends ThrowingRunnable<? extends E>> tasks) throws E {
+        FanOut.runAll(tasks);
+    }
+
     /**
      * When an object implementing interface {@code Runnable} is used to create a thread, starting the thread
      * causes the object's {@code run} method to be called in that separately executing thread.
@@ -24,6 +24,9 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -52,11 +55,264 @@ public interface ThrowingSupplier<T, E extends Exception> {
             try {
                 return lambda.get();
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe supplier
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the results supplied by this supplier
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe supplier of results
+     */
+    static <T, X extends Exception> Supplier<T> protect(
+            final ThrowingSupplier<? extends T, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return () -> {
+            try {
+                return lambda.get();
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe supplier
+     * @param <T>    the type of the results supplied by this supplier
+     * @return a safe supplier of results
+     */
+    static <T> Supplier<T> protectStackless(final ThrowingSupplier<? extends T, Exception> lambda) {
+        return () -> {
+            try {
+                return lambda.get();
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe supplier
+     * @param <T>    the type of the results supplied by this supplier
+     * @return a safe supplier of results
+     */
+    static <T> Supplier<T> sneaky(final ThrowingSupplier<? extends T, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingSupplier<? extends T, RuntimeException> unchecked =
+                (ThrowingSupplier<? extends T, RuntimeException>) lambda;
+        return unchecked::get;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link Result}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe supplier
+     * @param <T>    the type of the results supplied by this supplier
+     * @return a safe version of lambda that returns its outcome as a {@code Result}
+     */
+    static <T> Supplier<Result<T>> attempt(final ThrowingSupplier<? extends T, ? extends Exception> lambda) {
+        return () -> {
+            final T result;
+            try {
+                result = lambda.get();
+            } catch (final Exception ex) {
+                return Result.failure(ex);
+            }
+            return Result.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe supplier
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <T>          the type of the results supplied by this supplier
+     * @return a safe supplier of results
+     */
+    static <T> Supplier<T> protectOrElse(
+            final ThrowingSupplier<? extends T, ? extends Exception> lambda, final T defaultValue) {
+        return () -> {
+            try {
+                return lambda.get();
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe supplier
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <T>      the type of the results supplied by this supplier
+     * @return a safe supplier of results
+     */
+    static <T> Supplier<T> protectOrElseGet(
+            final ThrowingSupplier<? extends T, ? extends Exception> lambda,
+            final Function<? super Exception, ? extends T> fallback) {
+        Objects.requireNonNull(fallback);
+        return () -> {
+            try {
+                return lambda.get();
+            } catch (final Exception ex) {
+                return fallback.apply(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that invokes it at most once, on the first call, and returns the same result to every
+     * later call. Concurrent first calls wait for a single invocation, and later calls read the result without locking.
+     * If lambda throws an exception, it is rethrown unchanged and the next call invokes lambda again.
+     *
+     * @param lambda the unsafe supplier
+     * @param <T>    the type of the results supplied by this supplier
+     * @param <E>    the type of exception that lambda may throw
+     * @return a supplier that computes its result once
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> memoize(
+            final ThrowingSupplier<? extends T, ? extends E> lambda) {
+        return memoize(lambda, false);
+    }
+
+    /**
+     * Returns a version of lambda that invokes it at most once, on the first call, and returns the same result to every
+     * later call. Concurrent first calls wait for a single invocation, and later calls read the result without locking.
+     * If lambda throws an exception, it is rethrown unchanged; if cacheFailures is true, the same exception is rethrown
+     * by every later call, otherwise the next call invokes lambda again.
+     *
+     * @param lambda        the unsafe supplier
+     * @param cacheFailures whether an exception thrown by lambda is remembered in place of a result
+     * @param <T>           the type of the results supplied by this supplier
+     * @param <E>           the type of exception that lambda may throw
+     * @return a supplier that computes its outcome once
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> memoize(
+            final ThrowingSupplier<? extends T, ? extends E> lambda, final boolean cacheFailures) {
+        return new Memoization.MemoizedSupplier<>(lambda, cacheFailures);
+    }
+
+    /**
+     * Returns a version of lambda that serves a cached value and refreshes it in the background before it expires. The
+     * first call, and any call once the value has expired, invokes lambda on the calling thread and rethrows any
+     * exception it throws unchanged. A call once refreshAfter has passed since the value was loaded still returns that
+     * value immediately, but submits a refresh to the executor, at most one at a time. If a refresh throws an
+     * exception, it is passed to onFailure and the previous value continues to be served until it expires; the next
+     * refresh is not attempted until a quarter of refreshAfter has passed since the failure.
+     *
+     * @param lambda       the unsafe supplier
+     * @param refreshAfter the age of the value after which it is refreshed in the background
+     * @param expireAfter  the age of the value after which it is no longer served
+     * @param executor     the executor that runs background refreshes
+     * @param onFailure    the handler of any exception thrown by a background refresh, or by the executor on
+     *                     rejecting one
+     * @param <T>          the type of the results supplied by this supplier
+     * @param <E>          the type of exception that lambda may throw
+     * @return a supplier that serves a cached value and refreshes it ahead of expiry
+     * @throws IllegalArgumentException if refreshAfter is not positive or expireAfter is less than refreshAfter
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> refreshAhead(
+            final ThrowingSupplier<? extends T, ? extends E> lambda,
+            final Duration refreshAfter,
+            final Duration expireAfter,
+            final Executor executor,
+            final Consumer<? super Exception> onFailure) {
+        return new RefreshingSupplier<>(lambda, refreshAfter, expireAfter, executor, onFailure);
+    }
+
+    /**
+     * Returns a version of lambda that is interrupted if it has not completed within the timeout, and then throws a
+     * {@link LambdaTimeoutException} with the exception lambda throws, if any, as its cause. Lambda runs on the calling
+     * thread, and every deadline is tracked by one shared timer thread, so any number of calls may be in progress. A
+     * lambda that does not respond to interrupts runs to completion, but still times out; its interrupt status is
+     * cleared before the timeout is thrown, unless the thread was interrupted already. An exception thrown within the
+     * timeout is rethrown unchanged.
+     *
+     * @param lambda  the unsafe supplier
+     * @param timeout the time within which lambda must complete
+     * @param <T>     the type of the results supplied by this supplier
+     * @param <E>     the type of exception that lambda may throw
+     * @return a supplier that times out
+     * @throws IllegalArgumentException if timeout is not positive
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> withTimeout(
+            final ThrowingSupplier<? extends T, ? extends E> lambda, final Duration timeout) {
+        Objects.requireNonNull(lambda);
+        final long nanos = HashedWheelTimer.toNanos(timeout);
+        return () -> HashedWheelTimer.call(lambda, timeout, nanos);
+    }
+
+    /**
+     * Returns a new future that is completed by a task run on the executor with the result of lambda, or exceptionally
+     * with the exception it throws, unchanged. Unlike {@link CompletableFuture#supplyAsync} with {@link #protect}, no
+     * {@link LambdaException} is created, so {@link CompletableFuture#exceptionally} receives the original exception.
+     *
+     * @param lambda   the unsafe supplier
+     * @param executor the executor that runs lambda
+     * @param <T>      the type of the results supplied by this supplier
+     * @return a future completed with the outcome of lambda
+     * @throws RejectedExecutionException if the executor rejects the task
+     */
+    static <T> CompletableFuture<T> supplyAsync(
+            final ThrowingSupplier<? extends T, ? extends Exception> lambda, final Executor executor) {
+        Objects.requireNonNull(lambda);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            final T result;
+            try {
+                result = lambda.get();
+            } catch (final Throwable ex) {
+                future.completeExceptionally(ex);
+                return;
+            }
+            future.complete(result);
+        });
+        return future;
+    }
+
+    /**
+     * Invokes every supplier concurrently and returns their results in the order of the collection. On Java 21 and
+     * later each supplier runs on a virtual thread of its own; otherwise they share a pool of at most four threads per
+     * available processor, a bound set by the system property {@code com.syneil.throwinglambdas.fanOut.threads}. As
+     * soon as any supplier throws an exception, the others are cancelled, interrupting those already running, and the
+     * exception is rethrown unchanged.
+     *
+     * @param tasks the unsafe suppliers
+     * @param <T>   the type of the results supplied by the suppliers
+     * @param <E>   the type of exception that the suppliers may throw
+     * @return the results of the suppliers, in the order of the collection
+     * @throws E if any supplier throws it
+     * @throws LambdaException with an {@link InterruptedException} as its cause if the calling thread is interrupted
+     *                         while waiting, in which case the suppliers are cancelled
+     * @throws NullPointerException if tasks or any of its elements is null
+     */
+    static <T, E extends Exception> List<T> invokeAll(
+            final Collection<? extends ThrowingSupplier<? extends T, ? extends E>> tasks) throws E {
+        return FanOut.invokeAll(tasks);
+    }
+
     /**
      * Gets a result.
      *
@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -57,11 +58,179 @@ public interface ThrowingToDoubleBiFunction<T, U, E extends Exception> {
             try {
                 return lambda.applyAsDouble(t, u);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
             }
         };
     }
 
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe function
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the first argument to the function
+     * @param <U>           the type of the second argument to the function
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe function that accepts two arguments and produces a double
+     */
+    static <T, U, X extends Exception> ToDoubleBiFunction<T, U> protect(
+            final ThrowingToDoubleBiFunction<? super T, ? super U, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return (t, u) -> {
+            try {
+                return lambda.applyAsDouble(t, u);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the first argument to the function
+     * @param <U>    the type of the second argument to the function
+     * @return a safe function that accepts two arguments and produces a double
+     */
+    static <T, U> ToDoubleBiFunction<T, U> protectStackless(
+            final ThrowingToDoubleBiFunction<? super T, ? super U, Exception> lambda) {
+        return (t, u) -> {
+            try {
+                return lambda.applyAsDouble(t, u);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the first argument to the function
+     * @param <U>    the type of the second argument to the function
+     * @return a safe function that accepts two arguments and produces a double
+     */
+    static <T, U> ToDoubleBiFunction<T, U> sneaky(
+            final ThrowingToDoubleBiFunction<? super T, ? super U, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingToDoubleBiFunction<? super T, ? super U, RuntimeException> unchecked =
+                (ThrowingToDoubleBiFunction<? super T, ? super U, RuntimeException>) lambda;
+        return unchecked::applyAsDouble;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link DoubleResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the first argument to the function
+     * @param <U>    the type of the second argument to the function
+     * @return a safe version of lambda that returns its outcome as a {@code DoubleResult}
+     */
+    static <T, U> BiFunction<T, U, DoubleResult> attempt(
+            final ThrowingToDoubleBiFunction<? super T, ? super U, ? extends Exception> lambda) {
+        return (t, u) -> {
+            final double result;
+            try {
+                result = lambda.applyAsDouble(t, u);
+            } catch (final Exception ex) {
+                return DoubleResult.failure(ex);
+            }
+            return DoubleResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe function
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <T>          the type of the first argument to the function
+     * @param <U>          the type of the second argument to the function
+     * @return a safe function that accepts two arguments and produces a double
+     */
+    static <T, U> ToDoubleBiFunction<T, U> protectOrElse(
+            final ThrowingToDoubleBiFunction<? super T, ? super U, ? extends Exception> lambda,
+            final double defaultValue) {
+        return (t, u) -> {
+            try {
+                return lambda.applyAsDouble(t, u);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe function
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @return a safe function that accepts two arguments and produces a double
+     */
+    static <T, U> ToDoubleBiFunction<T, U> protectOrElseGet(
+            final ThrowingToDoubleBiFunction<? super T, ? super U, ? extends Exception> lambda,
+            final ToDoubleFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return (t, u) -> {
+            try {
+                return lambda.applyAsDouble(t, u);
+            } catch (final Exception ex) {
+                return fallback.applyAsDouble(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that caches its results in a concurrent cache bounded as specified, so that lambda is
+     * invoked only on a miss. An exception thrown by lambda is rethrown unchanged and, if the specification caches
+     * failures, rethrown by later lookups of the same arguments. Arguments are compared with {@code equals},
+     * individually, so no pair is allocated to look them up; the result is not boxed, and a hit allocates nothing.
+     *
+     * @param lambda the unsafe function
+     * @param spec   the bound, expiry and failure caching of the cache
+     * @param <T>    the type of the first argument to the function
+     * @param <U>    the type of the second argument to the function
+     * @param <E>    the type of exception that lambda may throw
+     * @return a caching function that accepts two arguments and produces a double
+     * @see CacheSpec
+     */
+    static <T, U, E extends Exception> ThrowingToDoubleBiFunction<T, U, E> memoize(
+            final ThrowingToDoubleBiFunction<? super T, ? super U, ? extends E> lambda, final CacheSpec spec) {
+        Objects.requireNonNull(lambda);
+        final BoundedCache cache = new BoundedCache(spec);
+        return (t, u) -> {
+            final int hash = BoundedCache.hash(t, u);
+            final BoundedCache.Entry cached = cache.find(t, u, hash);
+            if (cached != null) {
+                if (cached.failure != null) {
+                    throw Sneaky.<E>rethrow(cached.failure);
+                }
+                return Double.longBitsToDouble(cached.bits);
+            }
+            final double result;
+            try {
+                result = lambda.applyAsDouble(t, u);
+            } catch (final Exception ex) {
+                cache.putFailure(t, u, hash, ex);
+                throw ex;
+            }
+            cache.put(t, u, hash, null, Double.doubleToRawLongBits(result));
+            return result;
+        };
+    }
+
     /**
      * Applies this function to the given arguments.
      *
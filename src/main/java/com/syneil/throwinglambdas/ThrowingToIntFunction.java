@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -52,7 +53,126 @@ public interface ThrowingToIntFunction<T, E extends Exception> {
             try {
                 return lambda.applyAsInt(value);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe function
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the input to the function
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe function that accepts one argument and produces an int
+     */
+    static <T, X extends Exception> ToIntFunction<T> protect(
+            final ThrowingToIntFunction<? super T, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return value -> {
+            try {
+                return lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the input to the function
+     * @return a safe function that accepts one argument and produces an int
+     */
+    static <T> ToIntFunction<T> protectStackless(final ThrowingToIntFunction<? super T, Exception> lambda) {
+        return value -> {
+            try {
+                return lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the input to the function
+     * @return a safe function that accepts one argument and produces an int
+     */
+    static <T> ToIntFunction<T> sneaky(final ThrowingToIntFunction<? super T, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingToIntFunction<? super T, RuntimeException> unchecked =
+                (ThrowingToIntFunction<? super T, RuntimeException>) lambda;
+        return unchecked::applyAsInt;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as an
+     * {@link IntResult}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe function
+     * @param <T>    the type of the input to the function
+     * @return a safe version of lambda that returns its outcome as an {@code IntResult}
+     */
+    static <T> Function<T, IntResult> attempt(final ThrowingToIntFunction<? super T, ? extends Exception> lambda) {
+        return value -> {
+            final int result;
+            try {
+                result = lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                return IntResult.failure(ex);
+            }
+            return IntResult.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe function
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <T>          the type of the input to the function
+     * @return a safe function that accepts one argument and produces an int
+     */
+    static <T> ToIntFunction<T> protectOrElse(
+            final ThrowingToIntFunction<? super T, ? extends Exception> lambda, final int defaultValue) {
+        return value -> {
+            try {
+                return lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe function
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <T>      the type of the input to the function
+     * @return a safe function that accepts one argument and produces an int
+     */
+    static <T> ToIntFunction<T> protectOrElseGet(
+            final ThrowingToIntFunction<? super T, ? extends Exception> lambda,
+            final ToIntFunction<? super Exception> fallback) {
+        Objects.requireNonNull(fallback);
+        return value -> {
+            try {
+                return lambda.applyAsInt(value);
+            } catch (final Exception ex) {
+                return fallback.applyAsInt(ex);
             }
         };
     }
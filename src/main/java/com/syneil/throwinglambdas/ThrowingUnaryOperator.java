@@ -24,6 +24,7 @@
  */
 package com.syneil.throwinglambdas;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -53,7 +54,126 @@ public interface ThrowingUnaryOperator<T, E extends Exception> extends ThrowingF
             try {
                 return lambda.apply(t);
             } catch (final Exception ex) {
-                throw new LambdaException(ex);
+                throw LambdaException.wrap(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the declared checked exception and wraps it as the cause of a
+     * runtime {@link LambdaException}. Unchecked exceptions are relayed unchanged, as is any other checked exception
+     * thrown without being declared.
+     *
+     * @param lambda        the unsafe operation
+     * @param exceptionType the type of checked exception that lambda may throw
+     * @param <T>           the type of the input to the operation
+     * @param <X>           the type of checked exception that lambda may throw
+     * @return a safe operation that accepts one argument and produces a result of the same type
+     */
+    static <T, X extends Exception> UnaryOperator<T> protect(
+            final ThrowingUnaryOperator<T, ? extends X> lambda, final Class<X> exceptionType) {
+        Objects.requireNonNull(exceptionType);
+        return t -> {
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                throw LambdaException.wrap(ex, exceptionType);
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that catches the checked exception and wraps it as the cause of a runtime
+     * {@link LambdaException} that does not capture a stack trace of its own. This is cheaper than
+     * {@link #protect} where failures are frequent and only the stack trace of the cause is of interest.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the input to the operation
+     * @return a safe operation that accepts one argument and produces a result of the same type
+     */
+    static <T> UnaryOperator<T> protectStackless(final ThrowingUnaryOperator<T, Exception> lambda) {
+        return t -> {
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                throw LambdaException.wrapStackless(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a version of lambda that rethrows any checked exception unchanged, without declaring it. No wrapper
+     * exception is created on failure; the checked exception may be caught with the help of {@link Sneaky}.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the input to the operation
+     * @return a safe operation that accepts one argument and produces a result of the same type
+     */
+    static <T> UnaryOperator<T> sneaky(final ThrowingUnaryOperator<T, ? extends Exception> lambda) {
+        @SuppressWarnings("unchecked")
+        final ThrowingUnaryOperator<T, RuntimeException> unchecked =
+                (ThrowingUnaryOperator<T, RuntimeException>) lambda;
+        return unchecked::apply;
+    }
+
+    /**
+     * Returns a safe version of lambda that captures its outcome, either its result or the exception it throws, as a
+     * {@link Result}. Failures are returned as values rather than thrown, so they do not unwind the caller.
+     *
+     * @param lambda the unsafe operation
+     * @param <T>    the type of the input to the operation
+     * @return a safe version of lambda that returns its outcome as a {@code Result}
+     */
+    static <T> Function<T, Result<T>> attempt(final ThrowingUnaryOperator<T, ? extends Exception> lambda) {
+        return t -> {
+            final T result;
+            try {
+                result = lambda.apply(t);
+            } catch (final Exception ex) {
+                return Result.failure(ex);
+            }
+            return Result.success(result);
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns a default value in place of any exception it throws. No
+     * {@link LambdaException} is created on failure.
+     *
+     * @param lambda       the unsafe operation
+     * @param defaultValue the value to return if lambda throws an exception
+     * @param <T>          the type of the input to the operation
+     * @return a safe operation that accepts one argument and produces a result of the same type
+     */
+    static <T> UnaryOperator<T> protectOrElse(
+            final ThrowingUnaryOperator<T, ? extends Exception> lambda, final T defaultValue) {
+        return t -> {
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a safe version of lambda that returns the result of applying the fallback function to any exception it
+     * throws. No {@link LambdaException} is created on failure.
+     *
+     * @param lambda   the unsafe operation
+     * @param fallback the function from the exception thrown to the value to return
+     * @param <T>      the type of the input to the operation
+     * @return a safe operation that accepts one argument and produces a result of the same type
+     */
+    static <T> UnaryOperator<T> protectOrElseGet(
+            final ThrowingUnaryOperator<T, ? extends Exception> lambda,
+            final Function<? super Exception, ? extends T> fallback) {
+        Objects.requireNonNull(fallback);
+        return t -> {
+            try {
+                return lambda.apply(t);
+            } catch (final Exception ex) {
+                return fallback.apply(ex);
             }
         };
     }
@@ -19,5 +19,6 @@
  * <p>
  * Any checked exception thrown by the original method will instead be thrown as a runtime
  * {@link com.syneil.throwinglambdas.LambdaException} with the original as its {@link java.lang.Throwable#cause cause}.
+ * Unchecked exceptions are relayed unchanged.
  */
 package com.syneil.throwinglambdas;
@@ -0,0 +1,22 @@
+package com.syneil.throwinglambdas;
+
+import java.util.concurrent.*;
+
+/**
+ * The executor on which {@link FanOut} runs tasks. This version, for Java 21 and later, starts a virtual thread per
+ * task, so blocking tasks do not hold platform threads and the number run at once is not bounded.
+ */
+final class FanOutExecutors {
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("throwinglambdas-fan-out-", 1).factory());
+
+    private FanOutExecutors() {
+    }
+
+    /**
+     * Returns the shared executor. It is never shut down; callers cancel their own tasks.
+     */
+    static Executor executor() {
+        return EXECUTOR;
+    }
+}
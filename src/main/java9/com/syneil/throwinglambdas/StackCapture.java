@@ -0,0 +1,50 @@
+package com.syneil.throwinglambdas;
+
+/**
+ * Lazy capture of the stack traces of {@link LambdaException}s. On Java 9 and later, if the
+ * {@value LambdaException#STACK_DEPTH_PROPERTY} system property is positive, at most that many frames are captured with
+ * a {@link StackWalker} when the exception is constructed, and converted to {@link StackTraceElement}s only when the
+ * stack trace is requested. Otherwise the stack trace is captured eagerly, as on Java 8.
+ */
+final class StackCapture {
+    private static final int DEPTH = Integer.getInteger(LambdaException.STACK_DEPTH_PROPERTY, 0);
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private StackCapture() {
+    }
+
+    /**
+     * Captures the frames of the current thread's stack, excluding those constructing the exception.
+     * @return the captured frames, or null if the stack trace should be captured eagerly instead
+     */
+    static Object capture() {
+        if (DEPTH <= 0) {
+            return null;
+        }
+        return WALKER.walk(frames -> frames
+                .dropWhile(StackCapture::isConstruction)
+                .limit(DEPTH)
+                .toArray(StackWalker.StackFrame[]::new));
+    }
+
+    /**
+     * Converts frames returned by {@link #capture()} to a stack trace.
+     * @param frames the captured frames
+     * @return the stack trace
+     */
+    static StackTraceElement[] materialise(final Object frames) {
+        final StackWalker.StackFrame[] captured = (StackWalker.StackFrame[]) frames;
+        final StackTraceElement[] trace = new StackTraceElement[captured.length];
+        for (int i = 0; i < captured.length; i++) {
+            trace[i] = captured[i].toStackTraceElement();
+        }
+        return trace;
+    }
+
+    private static boolean isConstruction(final StackWalker.StackFrame frame) {
+        final Class<?> type = frame.getDeclaringClass();
+        final String method = frame.getMethodName();
+        return type == StackCapture.class || Throwable.class.isAssignableFrom(type)
+                && (method.equals("<init>") || method.equals("fillInStackTrace"));
+    }
+}